@@ -0,0 +1,95 @@
+/*
+ * Table Wrapper CSV Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.csv.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Synthetic report: table title row, header row, data rows and total row.
+ * Amount is formatted with space thousands separator and comma decimal separator.
+ */
+final class CsvData {
+
+    static final String TABLE_NAME = "Сделки";
+    static final String TOTAL_PREFIX = "Итого";
+    static final String LAST_ID = "last";
+
+    private CsvData() {
+    }
+
+    static String generate(Shape shape, int rows) {
+        StringBuilder csv = new StringBuilder(rows * shape.columns * 12);
+        csv.append(TABLE_NAME).append('\n');
+        csv.append("Номер,Дата,Сумма,Описание");
+        for (int column = 4; column < shape.columns; column++) {
+            csv.append(",Колонка ").append(column);
+        }
+        csv.append('\n');
+        LocalDate date = LocalDate.of(2024, 1, 1);
+        for (int row = 0; row < rows; row++) {
+            csv.append((row == rows - 1) ? LAST_ID : String.valueOf(row)).append(',')
+                    .append(date.plusDays(row % 30)).append(',')
+                    .append('"').append(row % 1000).append(' ').append(100 + row % 900).append(',').append(row % 100)
+                    .append("\",");
+            if (shape == Shape.QUOTED) {
+                csv.append("\"Покупка, \"\"квота\"\" ").append(row).append("\nвторая строка\"");
+            } else {
+                csv.append("Покупка ").append(row);
+            }
+            for (int column = 4; column < shape.columns; column++) {
+                csv.append(',').append(row * column % 10_000);
+            }
+            csv.append('\n');
+        }
+        csv.append(TOTAL_PREFIX).append(": ").append(rows).append('\n');
+        return csv.toString();
+    }
+
+    static Path writeTempFile(String csv) throws IOException {
+        Path path = Files.createTempFile("table-wrapper-csv-impl-benchmark", ".csv");
+        path.toFile().deleteOnExit();
+        return Files.writeString(path, csv, UTF_8);
+    }
+
+    enum Shape {
+        /**
+         * 4 columns
+         */
+        NARROW(4),
+        /**
+         * 40 columns
+         */
+        WIDE(40),
+        /**
+         * 4 columns, description is quoted and contains delimiter, quotes and line break
+         */
+        QUOTED(4);
+
+        private final int columns;
+
+        Shape(int columns) {
+            this.columns = columns;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Table Wrapper CSV Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.csv.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spacious_team.table_wrapper.api.TableCellAddress;
+import org.spacious_team.table_wrapper.csv.CsvCellStorage;
+import org.spacious_team.table_wrapper.csv.CsvReportPage;
+import org.spacious_team.table_wrapper.csv.CsvReportPageOptions;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Search of cell in last rows of page, worst case for sequential scan.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FindBenchmark {
+
+    @Param({"1000", "100000"})
+    int rows;
+    @Param({"NARROW", "WIDE"})
+    CsvData.Shape shape;
+    @Param({"ARRAY", "COMPACT"})
+    CsvCellStorage cellStorage;
+    @Param({"false", "true"})
+    boolean indexEnabled;
+
+    CsvReportPage reportPage;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        byte[] bytes = CsvData.generate(shape, rows).getBytes(UTF_8);
+        CsvReportPageOptions options = CsvReportPageOptions.builder()
+                .cellStorage(cellStorage)
+                .valueIndexEnabled(indexEnabled)
+                .prefixIndexEnabled(indexEnabled)
+                .build();
+        reportPage = new CsvReportPage(new ByteArrayInputStream(bytes), UTF_8,
+                CsvReportPage.getDefaultCsvParserSettings(), options);
+    }
+
+    @Benchmark
+    public TableCellAddress findValue() {
+        return reportPage.find(CsvData.LAST_ID);
+    }
+
+    @Benchmark
+    public TableCellAddress findByPrefix() {
+        return reportPage.findByPrefix(CsvData.TOTAL_PREFIX);
+    }
+
+    @Benchmark
+    public TableCellAddress findByPredicate() {
+        return reportPage.find(0, Integer.MAX_VALUE, 0, Integer.MAX_VALUE,
+                cell -> cell instanceof String && ((String) cell).endsWith(CsvData.LAST_ID));
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Table Wrapper CSV Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.csv.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spacious_team.table_wrapper.csv.CsvCellStorage;
+import org.spacious_team.table_wrapper.csv.CsvReportPage;
+import org.spacious_team.table_wrapper.csv.CsvReportPageOptions;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * {@link CsvReportPage} construction from file and input stream.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParseBenchmark {
+
+    @Param({"1000", "100000"})
+    int rows;
+    @Param({"NARROW", "WIDE", "QUOTED"})
+    CsvData.Shape shape;
+    @Param({"ARRAY", "COMPACT"})
+    CsvCellStorage cellStorage;
+
+    byte[] bytes;
+    Path path;
+    CsvReportPageOptions options;
+    CsvReportPageOptions parallelOptions;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        String csv = CsvData.generate(shape, rows);
+        bytes = csv.getBytes(UTF_8);
+        path = CsvData.writeTempFile(csv);
+        options = CsvReportPageOptions.builder()
+                .cellStorage(cellStorage)
+                .build();
+        parallelOptions = CsvReportPageOptions.builder()
+                .cellStorage(cellStorage)
+                .parseExecutor(ForkJoinPool.commonPool())
+                .parseChunkSize(Math.max(64 * 1024, bytes.length / (4L * ForkJoinPool.getCommonPoolParallelism())))
+                .build();
+    }
+
+    @Benchmark
+    public CsvReportPage parsePath() throws IOException {
+        return new CsvReportPage(path, UTF_8, CsvReportPage.getDefaultCsvParserSettings(), options);
+    }
+
+    @Benchmark
+    public CsvReportPage parsePathInParallel() throws IOException {
+        return new CsvReportPage(path, UTF_8, CsvReportPage.getDefaultCsvParserSettings(), parallelOptions);
+    }
+
+    @Benchmark
+    public CsvReportPage parseInputStream() throws IOException {
+        return new CsvReportPage(new ByteArrayInputStream(bytes), UTF_8,
+                CsvReportPage.getDefaultCsvParserSettings(), options);
+    }
+}
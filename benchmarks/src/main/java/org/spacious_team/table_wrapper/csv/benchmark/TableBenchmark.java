@@ -0,0 +1,126 @@
+/*
+ * Table Wrapper CSV Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.csv.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.spacious_team.table_wrapper.api.PatternTableColumn;
+import org.spacious_team.table_wrapper.api.Table;
+import org.spacious_team.table_wrapper.api.TableCell;
+import org.spacious_team.table_wrapper.api.TableColumn;
+import org.spacious_team.table_wrapper.api.TableFactoryRegistry;
+import org.spacious_team.table_wrapper.api.TableHeaderColumn;
+import org.spacious_team.table_wrapper.api.TableRow;
+import org.spacious_team.table_wrapper.csv.CsvCellStorage;
+import org.spacious_team.table_wrapper.csv.CsvReportPage;
+import org.spacious_team.table_wrapper.csv.CsvReportPageOptions;
+import org.spacious_team.table_wrapper.csv.CsvTableFactory;
+import org.spacious_team.table_wrapper.csv.CsvTableRow;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Cell access and table data extraction.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TableBenchmark {
+
+    @Param({"1000", "100000"})
+    int rows;
+    @Param({"NARROW", "WIDE"})
+    CsvData.Shape shape;
+    @Param({"ARRAY", "COMPACT"})
+    CsvCellStorage cellStorage;
+
+    CsvReportPage reportPage;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        TableFactoryRegistry.add(new CsvTableFactory());
+        byte[] bytes = CsvData.generate(shape, rows).getBytes(UTF_8);
+        CsvReportPageOptions options = CsvReportPageOptions.builder()
+                .cellStorage(cellStorage)
+                .build();
+        reportPage = new CsvReportPage(new ByteArrayInputStream(bytes), UTF_8,
+                CsvReportPage.getDefaultCsvParserSettings(), options);
+    }
+
+    @Benchmark
+    public void getCell(Blackhole blackhole) {
+        int lastRowNum = reportPage.getLastRowNum();
+        for (int i = 0; i <= lastRowNum; i++) {
+            CsvTableRow row = reportPage.getRow(i);
+            if (row != null) {
+                for (int j = 0; j <= row.getLastCellNum(); j++) {
+                    TableCell cell = row.getCell(j);
+                    blackhole.consume(cell);
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void extractTable(Blackhole blackhole) {
+        Table table = reportPage.create(CsvData.TABLE_NAME, CsvData.TOTAL_PREFIX, TradeColumn.class);
+        for (TableRow row : table) {
+            blackhole.consume(row.getStringCellValue(TradeColumn.ID));
+            blackhole.consume(row.getInstantCellValue(TradeColumn.DATE));
+            blackhole.consume(row.getBigDecimalCellValue(TradeColumn.AMOUNT));
+            blackhole.consume(row.getStringCellValue(TradeColumn.DESCRIPTION));
+        }
+    }
+
+    enum TradeColumn implements TableHeaderColumn {
+        ID("Номер"),
+        DATE("Дата"),
+        AMOUNT("Сумма"),
+        DESCRIPTION("Описание");
+
+        private final TableColumn column;
+
+        TradeColumn(String words) {
+            this.column = PatternTableColumn.of(words);
+        }
+
+        @Override
+        public TableColumn getColumn() {
+            return column;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Table Wrapper CSV Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.csv;
+
+import lombok.RequiredArgsConstructor;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spacious_team.table_wrapper.api.TableCellAddress;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Keeps all rows in memory as {@code String[][]}.
+ */
+@RequiredArgsConstructor
+class ArrayCsvRowStorage implements CsvRowStorage {
+
+    private final String[][] rows;
+
+    @Override
+    public String @Nullable [] getRow(int rowNum) {
+        return (rowNum < 0 || rowNum >= rows.length) ? null : rows[rowNum];
+    }
+
+    @Override
+    public int getLastRowNum() {
+        return rows.length - 1;
+    }
+
+    @Override
+    public long getCellCount() {
+        long cells = 0;
+        for (String[] row : rows) {
+            cells += row.length;
+        }
+        return cells;
+    }
+
+    @Override
+    public TableCellAddress find(int startRow, int endRow, int startColumn, int endColumn,
+                                 Predicate<@Nullable String> predicate, int parallelThreshold) {
+        return CsvTableHelper.find(rows, startRow, endRow, startColumn, endColumn, predicate, parallelThreshold);
+    }
+
+    static class Builder implements CsvRowStorageBuilder {
+        private final List<String[]> rows = new ArrayList<>();
+
+        @Override
+        public void append(String[] row) {
+            rows.add(row);
+        }
+
+        @Override
+        public CsvRowStorage build() {
+            return new ArrayCsvRowStorage(rows.toArray(new String[0][]));
+        }
+    }
+}
@@ -0,0 +1,351 @@
+/*
+ * Table Wrapper CSV Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.csv;
+
+import com.univocity.parsers.csv.CsvFormat;
+import com.univocity.parsers.csv.CsvParser;
+import com.univocity.parsers.csv.CsvParserSettings;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Tokenizes CSV on raw bytes of UTF-8 or single byte ASCII compatible charset, only kept cell values are decoded.
+ * Delimiter, quote and line separator bytes can't be a part of other char in such charsets.
+ * Parses input the same way as {@link CsvParser} does for well-formed CSV. Parsing is aborted
+ * on input that may be parsed differently (unescaped quotes, chars after closing quote, lone carriage return,
+ * comments, blank lines, BOM, control chars {@code \0} and {@code \1}, cell or column limits are exceeded),
+ * caller should parse such input by {@link CsvParser}.
+ */
+class ByteCsvParser {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int EOF = -1;
+    private static final int ABORT = -2;
+    private static final int NO_COMMENT = Integer.MIN_VALUE;
+    private final Charset charset;
+    private final int delimiter;
+    private final int quote;
+    private final int comment;
+    private final boolean crlf;
+    private final boolean ignoreLeadingWhitespaces;
+    private final boolean ignoreTrailingWhitespaces;
+    private final @Nullable String nullValue;
+    private final @Nullable String emptyValue;
+    private final int maxCharsPerColumn;
+    private final int maxColumns;
+    private final boolean @Nullable [] selectedColumns;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position = 0;
+    private int limit = 0;
+    private byte[] cell = new byte[64];
+    private int cellLength = 0;
+    private @Nullable String[] fields = new String[16];
+    private int fieldCount = 0;
+
+    private ByteCsvParser(Charset charset, CsvParserSettings settings, boolean crlf, int comment,
+                          int @Nullable [] selectedColumns) {
+        CsvFormat format = settings.getFormat();
+        this.charset = charset;
+        this.delimiter = format.getDelimiterString().charAt(0);
+        this.quote = format.getQuote();
+        this.comment = comment;
+        this.crlf = crlf;
+        this.ignoreLeadingWhitespaces = settings.getIgnoreLeadingWhitespaces();
+        this.ignoreTrailingWhitespaces = settings.getIgnoreTrailingWhitespaces();
+        this.nullValue = settings.getNullValue();
+        this.emptyValue = settings.getEmptyValue();
+        this.maxCharsPerColumn = (settings.getMaxCharsPerColumn() < 0) ? Integer.MAX_VALUE : settings.getMaxCharsPerColumn();
+        this.maxColumns = (settings.getMaxColumns() < 0) ? Integer.MAX_VALUE : settings.getMaxColumns();
+        this.selectedColumns = toColumnMask(selectedColumns);
+    }
+
+    private static boolean @Nullable [] toColumnMask(int @Nullable [] columns) {
+        if (columns == null) {
+            return null;
+        }
+        int maxColumn = Arrays.stream(columns).max().orElse(-1);
+        boolean[] mask = new boolean[maxColumn + 1];
+        for (int column : columns) {
+            if (column >= 0) {
+                mask[column] = true;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * @return true if uncompressed file may be parsed by
+     * {@link #parse(Path, FileChannel, Charset, CsvParserSettings, CsvReportPageOptions)}
+     */
+    static boolean isSupported(Path path, Charset charset, CsvParserSettings settings) throws IOException {
+        return Files.isRegularFile(path) &&
+                ParallelCsvParser.isAsciiCompatible(charset) &&
+                !settings.isHeaderExtractionEnabled() &&
+                settings.getNumberOfRowsToSkip() <= 0 &&
+                settings.getNumberOfRecordsToRead() < 0 &&
+                settings.getSkipEmptyLines() &&
+                !settings.getIgnoreLeadingWhitespacesInQuotes() &&
+                !settings.getIgnoreTrailingWhitespacesInQuotes() &&
+                !settings.getKeepQuotes() &&
+                !settings.isKeepEscapeSequences() &&
+                !settings.isEscapeUnquotedValues();
+    }
+
+    /**
+     * @param channel opened uncompressed file, bytes are read from current position
+     * @return rows or null if file format or content is not supported, file should be parsed by {@link CsvParser}
+     * @implSpec Does not close channel
+     */
+    static @Nullable CsvRowStorage parse(Path path, FileChannel channel, Charset charset, CsvParserSettings settings,
+                                         CsvReportPageOptions options) throws IOException {
+        CsvParserSettings fixedFormatSettings = ParallelCsvParser.getFixedFormatSettings(path, charset, settings);
+        @Nullable ByteCsvParser parser = of(charset, fixedFormatSettings, options.getSelectedColumns());
+        if (parser == null) {
+            return null;
+        }
+        InputStream inputStream = Channels.newInputStream(channel); // not closed, closing it closes channel
+        return parser.parse(inputStream, CsvRowStorageBuilder.of(options.getCellStorage()));
+    }
+
+    /**
+     * @return parser or null if format is not supported
+     */
+    static @Nullable ByteCsvParser of(Charset charset, CsvParserSettings settings) {
+        return of(charset, settings, null);
+    }
+
+    /**
+     * @param selectedColumns indexes of decoded columns, other cells have null values, null for all columns
+     * @return parser or null if format is not supported
+     */
+    static @Nullable ByteCsvParser of(Charset charset, CsvParserSettings settings, int @Nullable [] selectedColumns) {
+        CsvFormat format = settings.getFormat();
+        String delimiter = format.getDelimiterString();
+        String lineSeparator = format.getLineSeparatorString();
+        boolean crlf = lineSeparator.equals("\r\n");
+        if (delimiter.length() != 1 ||
+                !isAscii(delimiter.charAt(0)) ||
+                !isAscii(format.getQuote()) ||
+                format.getQuoteEscape() != format.getQuote() ||
+                format.getNormalizedNewline() != '\n' ||
+                !(crlf || lineSeparator.equals("\n")) ||
+                (crlf && !settings.isNormalizeLineEndingsWithinQuotes())) {
+            return null;
+        }
+        char comment = format.getComment();
+        boolean hasComments = settings.isCommentProcessingEnabled() && comment != '\0';
+        if (hasComments && !isAscii(comment)) {
+            return null;
+        }
+        return new ByteCsvParser(charset, settings, crlf, hasComments ? comment : NO_COMMENT, selectedColumns);
+    }
+
+    private static boolean isAscii(char c) {
+        return c > 0 && c < 0x80;
+    }
+
+    /**
+     * @return rows or null if input is not supported, builder is discarded in that case or on exception
+     * @implSpec Does not close inputStream
+     */
+    @Nullable
+    CsvRowStorage parse(InputStream inputStream, CsvRowStorageBuilder builder) throws IOException {
+        boolean isParsed = false;
+        try {
+            isParsed = appendRows(inputStream, builder);
+            return isParsed ? builder.build() : null;
+        } finally {
+            if (!isParsed) {
+                builder.discard();
+            }
+        }
+    }
+
+    /**
+     * @return false if input is not supported
+     */
+    private boolean appendRows(InputStream inputStream, CsvRowStorageBuilder builder) throws IOException {
+        int b = next(inputStream);
+        if (b == 0xEF && charset.equals(UTF_8)) { // possible BOM, skipped by CsvParser
+            return false;
+        }
+        while (b != EOF) {
+            if (b == '\n') { // empty line
+                b = next(inputStream);
+                continue;
+            } else if (b == comment || b == ABORT) {
+                return false;
+            }
+            boolean lineStartsWithWhitespace = isWhitespace(b);
+            fieldCount = 0;
+            while (true) {
+                if (ignoreLeadingWhitespaces) {
+                    while (isWhitespace(b)) {
+                        b = next(inputStream);
+                    }
+                    if (fieldCount == 0 && b == comment) {
+                        return false;
+                    }
+                }
+                @Nullable String value;
+                if (b == quote) {
+                    b = parseQuotedValue(inputStream);
+                    if (b != delimiter && b != '\n' && b != EOF) { // also ABORT
+                        return false;
+                    }
+                    value = !isSelectedColumn() ? null : (cellLength == 0) ? emptyValue : decodeCell();
+                } else {
+                    b = parseUnquotedValue(inputStream, b);
+                    if (b == ABORT) {
+                        return false;
+                    } else if (lineStartsWithWhitespace && fieldCount == 0 && b != delimiter && isBlankCell()) {
+                        return false; // blank line
+                    }
+                    value = !isSelectedColumn() ? null : (cellLength == 0) ? nullValue : decodeCell();
+                }
+                if (fieldCount == maxColumns) {
+                    return false;
+                } else if (fieldCount == fields.length) {
+                    fields = Arrays.copyOf(fields, fieldCount * 2);
+                }
+                fields[fieldCount++] = value;
+                if (b != delimiter) {
+                    break;
+                }
+                b = next(inputStream);
+            }
+            builder.append(Arrays.copyOf(fields, fieldCount));
+            if (b == '\n') {
+                b = next(inputStream);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param b first byte of value
+     * @return delimiter, new line, EOF or ABORT
+     */
+    private int parseUnquotedValue(InputStream inputStream, int b) throws IOException {
+        cellLength = 0;
+        while (b != delimiter && b != '\n' && b != EOF) {
+            if (b <= 1 || b == quote || cellLength == maxCharsPerColumn) { // ABORT, \0, \1, unescaped quote or limit
+                return ABORT;
+            }
+            appendToCell(b);
+            b = next(inputStream);
+        }
+        if (ignoreTrailingWhitespaces) {
+            while (cellLength > 0 && isWhitespace(cell[cellLength - 1] & 0xFF)) {
+                cellLength--;
+            }
+        }
+        return b;
+    }
+
+    /**
+     * @return byte after closing quote or ABORT
+     */
+    private int parseQuotedValue(InputStream inputStream) throws IOException {
+        cellLength = 0;
+        while (true) {
+            int b = next(inputStream);
+            if (b <= 1) { // EOF, ABORT, \0 or \1
+                return ABORT;
+            } else if (b == quote) {
+                b = next(inputStream);
+                if (b != quote) {
+                    return b;
+                }
+            }
+            if (cellLength == maxCharsPerColumn) {
+                return ABORT;
+            }
+            appendToCell(b);
+        }
+    }
+
+    private boolean isSelectedColumn() {
+        return selectedColumns == null || (fieldCount < selectedColumns.length && selectedColumns[fieldCount]);
+    }
+
+    private boolean isWhitespace(int b) {
+        return b > 1 && b <= ' ' && b != delimiter && b != '\n';
+    }
+
+    private boolean isBlankCell() {
+        for (int i = 0; i < cellLength; i++) {
+            if (!isWhitespace(cell[i] & 0xFF)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void appendToCell(int b) {
+        if (cellLength == cell.length) {
+            cell = Arrays.copyOf(cell, cellLength * 2);
+        }
+        cell[cellLength++] = (byte) b;
+    }
+
+    private String decodeCell() {
+        return new String(cell, 0, cellLength, charset);
+    }
+
+    /**
+     * @return next byte, EOF or ABORT for not supported line separator
+     */
+    private int next(InputStream inputStream) throws IOException {
+        if (position == limit && !fill(inputStream)) {
+            return EOF;
+        }
+        int b = buffer[position++] & 0xFF;
+        if (b == '\r' && crlf) {
+            if (position == limit && !fill(inputStream)) {
+                return ABORT;
+            } else if (buffer[position] != '\n') {
+                return ABORT;
+            }
+            position++;
+            return '\n';
+        }
+        return b;
+    }
+
+    private boolean fill(InputStream inputStream) throws IOException {
+        int n;
+        do {
+            n = inputStream.read(buffer);
+        } while (n == 0);
+        position = 0;
+        limit = Math.max(0, n);
+        return n > 0;
+    }
+}
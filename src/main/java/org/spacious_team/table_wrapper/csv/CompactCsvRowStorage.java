@@ -0,0 +1,258 @@
+/*
+ * Table Wrapper CSV Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.csv;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spacious_team.table_wrapper.api.TableCellAddress;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static org.spacious_team.table_wrapper.api.TableCellAddress.NOT_FOUND;
+
+/**
+ * Keeps text of all cells in large char array segments, each row is stored contiguously in one segment.
+ * Cells of row are described by {@code int[]} of cell end offsets relative to row start,
+ * null cell is marked by sign bit. Strings are created on row or cell access only.
+ */
+class CompactCsvRowStorage implements CsvRowStorage {
+
+    static final int DEFAULT_SEGMENT_SIZE = 1 << 20; // chars
+    private static final int NULL_CELL_FLAG = 0x80000000;
+    private static final int[] EMPTY_ROW = new int[0];
+    private final char[][] segments;
+    private final int[] rowSegments;
+    private final int[] rowOffsets;
+    private final int[][] cellEnds;
+
+    private CompactCsvRowStorage(char[][] segments, int[] rowSegments, int[] rowOffsets, int[][] cellEnds) {
+        this.segments = segments;
+        this.rowSegments = rowSegments;
+        this.rowOffsets = rowOffsets;
+        this.cellEnds = cellEnds;
+    }
+
+    @Override
+    @SuppressWarnings("nullness") // row may contain nulls as parser returned row does
+    public String @Nullable [] getRow(int rowNum) {
+        if (rowNum < 0 || rowNum >= cellEnds.length) {
+            return null;
+        }
+        int[] ends = cellEnds[rowNum];
+        String[] row = new String[ends.length];
+        for (int i = 0; i < ends.length; i++) {
+            row[i] = getCellValue(rowNum, ends, i);
+        }
+        return row;
+    }
+
+    /**
+     * Creates string of requested cell only.
+     */
+    @Override
+    public @Nullable String getCellValue(int rowNum, int column) {
+        if (rowNum < 0 || rowNum >= cellEnds.length) {
+            return null;
+        }
+        int[] ends = cellEnds[rowNum];
+        return (column < 0 || column >= ends.length) ? null : getCellValue(rowNum, ends, column);
+    }
+
+    @Override
+    public int getLastRowNum() {
+        return cellEnds.length - 1;
+    }
+
+    @Override
+    public long getCellCount() {
+        long cells = 0;
+        for (int[] ends : cellEnds) {
+            cells += ends.length;
+        }
+        return cells;
+    }
+
+    private @Nullable String getCellValue(int rowNum, int[] ends, int column) {
+        int end = ends[column];
+        if ((end & NULL_CELL_FLAG) != 0) {
+            return null;
+        }
+        int start = getCellStart(ends, column);
+        return new String(segments[rowSegments[rowNum]], rowOffsets[rowNum] + start, end - start);
+    }
+
+    private static int getCellStart(int[] ends, int column) {
+        return (column == 0) ? 0 : (ends[column - 1] & ~NULL_CELL_FLAG);
+    }
+
+    /**
+     * Compares cell chars with expected value without creating strings.
+     */
+    @Override
+    public TableCellAddress find(@Nullable Object expected, int startRow, int endRow, int startColumn, int endColumn) {
+        @Nullable String expectedString = (expected == null) ? null : expected.toString();
+        startRow = Math.max(0, startRow);
+        endRow = Math.min(endRow, cellEnds.length);
+        startColumn = Math.max(0, startColumn);
+        for (int rowNum = startRow; rowNum < endRow; rowNum++) {
+            int[] ends = cellEnds[rowNum];
+            int lastColumn = Math.min(endColumn, ends.length);
+            for (int column = startColumn; column < lastColumn; column++) {
+                if (isCellEqualTo(rowNum, ends, column, expectedString)) {
+                    return TableCellAddress.of(rowNum, column);
+                }
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    private boolean isCellEqualTo(int rowNum, int[] ends, int column, @Nullable String expected) {
+        int end = ends[column];
+        if ((end & NULL_CELL_FLAG) != 0) {
+            return expected == null;
+        } else if (expected == null) {
+            return false;
+        }
+        int start = getCellStart(ends, column);
+        int length = expected.length();
+        if (end - start != length) {
+            return false;
+        }
+        char[] segment = segments[rowSegments[rowNum]];
+        int offset = rowOffsets[rowNum] + start;
+        for (int i = 0; i < length; i++) {
+            if (segment[offset + i] != expected.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Creates string of tested cells only.
+     */
+    @Override
+    public TableCellAddress find(int startRow, int endRow, int startColumn, int endColumn,
+                                 Predicate<@Nullable String> predicate) {
+        startRow = Math.max(0, startRow);
+        endRow = Math.min(endRow, cellEnds.length);
+        for (int rowNum = startRow; rowNum < endRow; rowNum++) {
+            TableCellAddress address = find(rowNum, startColumn, endColumn, predicate);
+            if (address != NOT_FOUND) {
+                return address;
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    @Override
+    public TableCellAddress find(int startRow, int endRow, int startColumn, int endColumn,
+                                 Predicate<@Nullable String> predicate, int parallelThreshold) {
+        int start = Math.max(0, startRow);
+        int end = Math.min(endRow, cellEnds.length);
+        if (end - start < parallelThreshold) {
+            return find(start, end, startColumn, endColumn, predicate);
+        }
+        return CsvTableHelper.parallelFind(start, end, rowNum -> find(rowNum, startColumn, endColumn, predicate));
+    }
+
+    private TableCellAddress find(int rowNum, int startColumn, int endColumn, Predicate<@Nullable String> predicate) {
+        int[] ends = cellEnds[rowNum];
+        int lastColumn = Math.min(endColumn, ends.length);
+        for (int column = Math.max(0, startColumn); column < lastColumn; column++) {
+            if (predicate.test(getCellValue(rowNum, ends, column))) {
+                return TableCellAddress.of(rowNum, column);
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    static class Builder implements CsvRowStorageBuilder {
+        private final int segmentSize;
+        private final List<char[]> segments = new ArrayList<>();
+        private char[] segment = new char[0];
+        private int position = 0;
+        private int rowCount = 0;
+        private int[] rowSegments = new int[1024];
+        private int[] rowOffsets = new int[1024];
+        private int[][] cellEnds = new int[1024][];
+
+        Builder() {
+            this(DEFAULT_SEGMENT_SIZE);
+        }
+
+        Builder(int segmentSize) {
+            this.segmentSize = segmentSize;
+        }
+
+        @Override
+        public void append(String[] row) {
+            int rowLength = 0;
+            for (@Nullable String cell : row) {
+                rowLength += (cell == null) ? 0 : cell.length();
+            }
+            if (segment.length - position < rowLength || segments.isEmpty()) {
+                segment = new char[Math.max(segmentSize, rowLength)];
+                segments.add(segment);
+                position = 0;
+            }
+            int[] ends = (row.length == 0) ? EMPTY_ROW : new int[row.length];
+            int offset = 0;
+            for (int i = 0; i < row.length; i++) {
+                @Nullable String cell = row[i];
+                if (cell == null) {
+                    ends[i] = offset | NULL_CELL_FLAG;
+                } else {
+                    cell.getChars(0, cell.length(), segment, position + offset);
+                    offset += cell.length();
+                    ends[i] = offset;
+                }
+            }
+            ensureCapacity();
+            rowSegments[rowCount] = segments.size() - 1;
+            rowOffsets[rowCount] = position;
+            cellEnds[rowCount] = ends;
+            rowCount++;
+            position += rowLength;
+        }
+
+        private void ensureCapacity() {
+            if (rowCount == cellEnds.length) {
+                int capacity = rowCount + (rowCount >> 1);
+                rowSegments = Arrays.copyOf(rowSegments, capacity);
+                rowOffsets = Arrays.copyOf(rowOffsets, capacity);
+                cellEnds = Arrays.copyOf(cellEnds, capacity);
+            }
+        }
+
+        @Override
+        public CsvRowStorage build() {
+            if (!segments.isEmpty()) {
+                segments.set(segments.size() - 1, Arrays.copyOf(segment, position)); // trim last segment
+            }
+            return new CompactCsvRowStorage(
+                    segments.toArray(new char[0][]),
+                    Arrays.copyOf(rowSegments, rowCount),
+                    Arrays.copyOf(rowOffsets, rowCount),
+                    Arrays.copyOf(cellEnds, rowCount));
+        }
+    }
+}
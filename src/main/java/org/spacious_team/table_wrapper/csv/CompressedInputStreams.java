@@ -0,0 +1,116 @@
+/*
+ * Table Wrapper CSV Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.csv;
+
+import lombok.NoArgsConstructor;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Detects gzip and zip compressed input by magic bytes and decompresses it on the fly.
+ * First file entry is read from zip archive.
+ */
+@NoArgsConstructor(access = PRIVATE)
+final class CompressedInputStreams {
+
+    static final int BUFFER_SIZE = 64 * 1024;
+    private static final int MAGIC_LENGTH = 4;
+
+    static boolean isCompressed(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return isCompressed(channel);
+        }
+    }
+
+    /**
+     * Reads magic bytes from file beginning, channel position is not changed.
+     */
+    static boolean isCompressed(FileChannel channel) throws IOException {
+        ByteBuffer magic = ByteBuffer.allocate(MAGIC_LENGTH);
+        while (magic.hasRemaining()) {
+            if (channel.read(magic, magic.position()) <= 0) {
+                break;
+            }
+        }
+        return isCompressed(Arrays.copyOf(magic.array(), magic.position()));
+    }
+
+    private static boolean isCompressed(byte[] magic) {
+        return isGzip(magic) || isZip(magic);
+    }
+
+    private static boolean isGzip(byte[] magic) {
+        return magic.length >= 2 && magic[0] == (byte) 0x1F && magic[1] == (byte) 0x8B;
+    }
+
+    private static boolean isZip(byte[] magic) {
+        return magic.length >= 4 && magic[0] == 'P' && magic[1] == 'K' && magic[2] == 3 && magic[3] == 4;
+    }
+
+    /**
+     * @return decompressing input stream for compressed input or buffered input stream otherwise
+     * @implSpec Closes inputStream on exception
+     */
+    static InputStream decompressIfCompressed(InputStream inputStream) throws IOException {
+        try {
+            InputStream in = inputStream.markSupported() ?
+                    inputStream :
+                    new BufferedInputStream(inputStream, BUFFER_SIZE);
+            in.mark(MAGIC_LENGTH);
+            byte[] magic = in.readNBytes(MAGIC_LENGTH);
+            in.reset();
+            if (isGzip(magic)) {
+                return new GZIPInputStream(in, BUFFER_SIZE);
+            } else if (isZip(magic)) {
+                return openFirstFileEntry(new ZipInputStream(in));
+            }
+            return in;
+        } catch (IOException | RuntimeException e) {
+            try {
+                inputStream.close();
+            } catch (IOException closeException) {
+                e.addSuppressed(closeException);
+            }
+            throw e;
+        }
+    }
+
+    private static InputStream openFirstFileEntry(ZipInputStream zipInputStream) throws IOException {
+        @Nullable ZipEntry entry;
+        while ((entry = zipInputStream.getNextEntry()) != null) {
+            if (!entry.isDirectory()) {
+                return zipInputStream;
+            }
+        }
+        throw new IOException("Zip archive has no file entry");
+    }
+}
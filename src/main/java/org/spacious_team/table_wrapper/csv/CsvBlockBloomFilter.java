@@ -0,0 +1,171 @@
+/*
+ * Table Wrapper CSV Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.csv;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spacious_team.table_wrapper.api.TableCellAddress;
+
+import java.util.Arrays;
+
+import static org.spacious_team.table_wrapper.api.TableCellAddress.NOT_FOUND;
+
+/**
+ * Bloom filters of not null cell values of each block of {@value #BLOCK_SIZE} rows.
+ * Search of value scans only blocks which may contain the value. Filter of block has power of two size
+ * of at least {@value #BITS_PER_VALUE} bits per cell, false positive probability is below 4%.
+ * Filters of all blocks are stored in one array.
+ */
+class CsvBlockBloomFilter {
+
+    static final int BLOCK_SIZE = 1024; // rows
+    private static final int BITS_PER_VALUE = 8;
+    private static final int HASH_COUNT = 3;
+    private final long[] bits;
+    private final int[] blockOffsets; // first word of block filter, last element is bits length
+    private final int rowCount;
+
+    private CsvBlockBloomFilter(long[] bits, int[] blockOffsets, int rowCount) {
+        this.bits = bits;
+        this.blockOffsets = blockOffsets;
+        this.rowCount = rowCount;
+    }
+
+    static CsvBlockBloomFilter of(CsvRowStorage rows) {
+        int rowCount = rows.getLastRowNum() + 1;
+        int blockCount = (int) ((rowCount + (long) BLOCK_SIZE - 1) / BLOCK_SIZE);
+        int[] blockOffsets = new int[blockCount + 1];
+        long[] bits = new long[Math.max(1, blockCount)];
+        int[] hashes = new int[BLOCK_SIZE];
+        for (int block = 0; block < blockCount; block++) {
+            int count = 0;
+            int blockStart = block * BLOCK_SIZE;
+            int blockEnd = Math.min(rowCount - blockStart, BLOCK_SIZE) + blockStart;
+            for (int rowNum = blockStart; rowNum < blockEnd; rowNum++) {
+                String @Nullable [] row = rows.getRow(rowNum);
+                if (row == null) {
+                    continue;
+                }
+                for (@Nullable String cell : row) {
+                    if (cell != null) {
+                        if (count == hashes.length) {
+                            hashes = Arrays.copyOf(hashes, count * 2);
+                        }
+                        hashes[count++] = cell.hashCode();
+                    }
+                }
+            }
+            int offset = blockOffsets[block];
+            int words = getWordCount(count);
+            if (offset + words > bits.length) {
+                bits = Arrays.copyOf(bits, Math.max(offset + words, bits.length + (bits.length >> 1)));
+            }
+            for (int i = 0; i < count; i++) {
+                add(bits, offset, words, hashes[i]);
+            }
+            blockOffsets[block + 1] = offset + words;
+        }
+        return new CsvBlockBloomFilter(Arrays.copyOf(bits, blockOffsets[blockCount]), blockOffsets, rowCount);
+    }
+
+    /**
+     * @return power of two count of 64 bit words
+     */
+    private static int getWordCount(int values) {
+        long bitCount = Math.max(Long.SIZE, (long) values * BITS_PER_VALUE);
+        return (int) ((Long.highestOneBit(bitCount - 1) << 1) / Long.SIZE);
+    }
+
+    /**
+     * @return murmur3 64-bit finalizer of hash, high and low halves are used as independent hashes
+     */
+    private static long mix(int hash) {
+        long h = hash;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private static void add(long[] bits, int offset, int words, int hash) {
+        long h = mix(hash);
+        int h1 = (int) (h >>> 32);
+        int h2 = (int) h | 1;
+        int mask = words * Long.SIZE - 1;
+        for (int i = 0; i < HASH_COUNT; i++) {
+            int bit = (h1 + i * h2) & mask;
+            bits[offset + (bit >>> 6)] |= 1L << bit;
+        }
+    }
+
+    private boolean mightContain(int block, int hash) {
+        int offset = blockOffsets[block];
+        int words = blockOffsets[block + 1] - offset;
+        long h = mix(hash);
+        int h1 = (int) (h >>> 32);
+        int h2 = (int) h | 1;
+        int mask = words * Long.SIZE - 1;
+        for (int i = 0; i < HASH_COUNT; i++) {
+            int bit = (h1 + i * h2) & mask;
+            if ((bits[offset + (bit >>> 6)] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Same as {@link CsvRowStorage#find(Object, int, int, int, int)} for not null value,
+     * but blocks of rows which can't contain value are skipped.
+     */
+    TableCellAddress find(CsvRowStorage rows, String value, int startRow, int endRow, int startColumn, int endColumn) {
+        int hash = value.hashCode();
+        startRow = Math.max(0, startRow);
+        endRow = Math.min(endRow, rowCount);
+        for (int blockStart = startRow - startRow % BLOCK_SIZE; blockStart < endRow; blockStart += BLOCK_SIZE) {
+            if (mightContain(blockStart / BLOCK_SIZE, hash)) {
+                int blockEnd = Math.min(endRow - blockStart, BLOCK_SIZE) + blockStart;
+                int blockStartRow = Math.max(startRow, blockStart);
+                TableCellAddress address = rows.find(value, blockStartRow, blockEnd, startColumn, endColumn);
+                if (address != NOT_FOUND) {
+                    return address;
+                }
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    /**
+     * @return count of rows in range which are not skipped by search of value
+     */
+    int getScannedRowCount(String value, int startRow, int endRow) {
+        int hash = value.hashCode();
+        startRow = Math.max(0, startRow);
+        endRow = Math.min(endRow, rowCount);
+        int scannedRows = 0;
+        for (int blockStart = startRow - startRow % BLOCK_SIZE; blockStart < endRow; blockStart += BLOCK_SIZE) {
+            if (mightContain(blockStart / BLOCK_SIZE, hash)) {
+                int blockEnd = Math.min(endRow - blockStart, BLOCK_SIZE) + blockStart;
+                scannedRows += blockEnd - Math.max(startRow, blockStart);
+            }
+        }
+        return scannedRows;
+    }
+}
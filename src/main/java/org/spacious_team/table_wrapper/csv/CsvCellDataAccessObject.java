@@ -19,12 +19,12 @@
 package org.spacious_team.table_wrapper.csv;
 
 import lombok.EqualsAndHashCode;
-import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spacious_team.table_wrapper.api.CellDataAccessObject;
 import org.spacious_team.table_wrapper.api.InstantParser;
 
+import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.LocalTime;
 
@@ -32,11 +32,31 @@ import static java.util.Objects.requireNonNull;
 
 @ToString
 @EqualsAndHashCode
-@RequiredArgsConstructor(staticName = "of")
 public class CsvCellDataAccessObject implements CellDataAccessObject<String, CsvTableRow> {
+    public static final int DEFAULT_INSTANT_CACHE_SIZE = 1024;
     public static final CsvCellDataAccessObject INSTANCE = CsvCellDataAccessObject.of(
             InstantParser.builder().defaultTime(LocalTime.NOON).build());
     private final InstantParser instantParser;
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final CsvInstantCache instantCache;
+
+    public static CsvCellDataAccessObject of(InstantParser instantParser) {
+        return of(instantParser, DEFAULT_INSTANT_CACHE_SIZE);
+    }
+
+    /**
+     * @param instantCacheSize max number of cached parsed instants, recently parsed values evict previous ones
+     *                         with the same hash slot, zero disables cache
+     */
+    public static CsvCellDataAccessObject of(InstantParser instantParser, int instantCacheSize) {
+        return new CsvCellDataAccessObject(instantParser, new CsvInstantCache(instantCacheSize));
+    }
+
+    private CsvCellDataAccessObject(InstantParser instantParser, CsvInstantCache instantCache) {
+        this.instantParser = instantParser;
+        this.instantCache = instantCache;
+    }
 
     @Override
     public @Nullable String getCell(CsvTableRow row, Integer cellIndex) {
@@ -49,11 +69,79 @@ public class CsvCellDataAccessObject implements CellDataAccessObject<String, Csv
         return cell;
     }
 
+    /**
+     * Parses plain integer numbers without creating intermediate strings.
+     */
+    @Override
+    public int getIntValue(@Nullable String cell) {
+        @Nullable String value = getValue(cell);
+        if (value != null) {
+            long number = CsvNumberParser.parse(value);
+            if (CsvNumberParser.isInteger(number)) {
+                long longValue = CsvNumberParser.toLong(number);
+                if (longValue == (int) longValue) {
+                    return (int) longValue;
+                }
+            }
+        }
+        return CellDataAccessObject.super.getIntValue(cell);
+    }
+
+    /**
+     * Parses plain integer numbers without creating intermediate strings.
+     */
+    @Override
+    public long getLongValue(@Nullable String cell) {
+        @Nullable String value = getValue(cell);
+        if (value != null) {
+            long number = CsvNumberParser.parse(value);
+            if (CsvNumberParser.isInteger(number)) {
+                return CsvNumberParser.toLong(number);
+            }
+        }
+        return CellDataAccessObject.super.getLongValue(cell);
+    }
+
+    /**
+     * Parses plain decimal numbers without creating intermediate strings.
+     */
+    @Override
+    public double getDoubleValue(@Nullable String cell) {
+        @Nullable String value = getValue(cell);
+        if (value != null) {
+            long number = CsvNumberParser.parse(value);
+            if (CsvNumberParser.isExactDouble(number)) {
+                return CsvNumberParser.toDouble(number);
+            }
+        }
+        return CellDataAccessObject.super.getDoubleValue(cell);
+    }
+
+    /**
+     * Parses plain decimal numbers without creating intermediate strings.
+     */
+    @Override
+    public BigDecimal getBigDecimalValue(@Nullable String cell) {
+        @Nullable String value = getValue(cell);
+        if (value != null) {
+            long number = CsvNumberParser.parse(value);
+            if (number != CsvNumberParser.NOT_PARSED) {
+                return CsvNumberParser.toBigDecimal(number);
+            }
+        }
+        return CellDataAccessObject.super.getBigDecimalValue(cell);
+    }
+
     @Override
     public Instant getInstantValue(@Nullable String cell) {
         @Nullable String value = getValue(cell);
         @SuppressWarnings("nullness")
         String nonNullValue = requireNonNull(value, "Not an instant");
-        return instantParser.parseInstant(nonNullValue);
+        @Nullable Instant instant = instantCache.get(nonNullValue);
+        if (instant == null) {
+            instant = instantParser.parseInstant(nonNullValue);
+            instantCache.put(nonNullValue, instant);
+        }
+        return instant;
     }
 }
@@ -0,0 +1,45 @@
+/*
+ * Table Wrapper CSV Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.csv;
+
+/**
+ * Defines how parsed cells of {@link CsvReportPage} are kept in memory.
+ */
+public enum CsvCellStorage {
+
+    /**
+     * Cells are kept as {@code String[][]}. Fastest access, about 50 bytes of overhead per cell.
+     */
+    ARRAY,
+
+    /**
+     * Text of all cells is kept in large shared char arrays with {@code int[]} cell offsets per row.
+     * Row cells are materialized as strings on row access only. Reduces retained heap and GC pressure
+     * of large pages at the cost of slower row access.
+     */
+    COMPACT,
+
+    /**
+     * Text of all cells and cell offsets are kept in direct byte buffers out of heap, only row offsets are kept
+     * on heap. Row cells are materialized as strings on row access only. Page cells are not scanned by GC,
+     * but row access is slower than for {@link #COMPACT}. Page should be closed to free memory without waiting
+     * for GC, page can't be used after close. Memory is limited by {@code -XX:MaxDirectMemorySize} JVM option.
+     */
+    OFF_HEAP
+}
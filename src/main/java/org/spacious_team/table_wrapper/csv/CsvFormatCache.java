@@ -0,0 +1,83 @@
+/*
+ * Table Wrapper CSV Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.csv;
+
+import com.univocity.parsers.csv.CsvFormat;
+import com.univocity.parsers.csv.CsvParserSettings;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Thread safe cache of CSV formats detected by first parsed file of source (for example broker),
+ * next files of the source are parsed with cached format without format detection.
+ * Used by {@link CsvReportPage} if {@link CsvReportPageOptions#getFormatCache()} and
+ * {@link CsvReportPageOptions#getFormatSourceId()} are set.
+ */
+public class CsvFormatCache {
+
+    private final Map<String, CsvFormat> formats = new ConcurrentHashMap<>();
+
+    /**
+     * @return copy of cached format or null
+     */
+    public @Nullable CsvFormat get(String sourceId) {
+        @Nullable CsvFormat format = formats.get(sourceId);
+        return (format == null) ? null : format.clone();
+    }
+
+    public void put(String sourceId, CsvFormat format) {
+        formats.put(sourceId, format.clone());
+    }
+
+    public void remove(String sourceId) {
+        formats.remove(sourceId);
+    }
+
+    public void clear() {
+        formats.clear();
+    }
+
+    public int size() {
+        return formats.size();
+    }
+
+    /**
+     * @return settings copy with cached format and disabled format detection or same settings if format is not cached
+     */
+    CsvParserSettings applyTo(String sourceId, CsvParserSettings settings) {
+        @Nullable CsvFormat format = get(sourceId);
+        if (format == null) {
+            return settings;
+        }
+        CsvParserSettings fixedFormatSettings = settings.clone();
+        fixedFormatSettings.setFormat(format);
+        fixedFormatSettings.setDelimiterDetectionEnabled(false);
+        fixedFormatSettings.setQuoteDetectionEnabled(false);
+        fixedFormatSettings.setLineSeparatorDetectionEnabled(false);
+        return fixedFormatSettings;
+    }
+
+    static boolean isFormatDetectionEnabled(CsvParserSettings settings) {
+        return settings.isDelimiterDetectionEnabled() ||
+                settings.isQuoteDetectionEnabled() ||
+                settings.isLineSeparatorDetectionEnabled();
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Table Wrapper CSV Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.csv;
+
+import lombok.RequiredArgsConstructor;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.time.Instant;
+
+/**
+ * Lock free direct mapped cache of parsed instants. Value is cached in slot chosen by value hash,
+ * previously cached value in the slot is evicted. Entries are immutable, so concurrent
+ * reads and writes are safe without synchronization, race may only cause a cache miss.
+ */
+class CsvInstantCache {
+
+    private final @Nullable Entry[] entries;
+
+    /**
+     * @param size max cached instants count, rounded up to power of two, zero disables cache
+     */
+    CsvInstantCache(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Cache size is negative: " + size);
+        }
+        int powerOfTwoSize = (size >= (1 << 30)) ? (1 << 30) : Integer.highestOneBit(Math.max(1, size) - 1) << 1;
+        this.entries = new Entry[(size == 0) ? 0 : Math.max(1, powerOfTwoSize)];
+    }
+
+    @Nullable Instant get(String value) {
+        if (entries.length == 0) {
+            return null;
+        }
+        @Nullable Entry entry = entries[getSlot(value)];
+        return (entry != null && entry.value.equals(value)) ? entry.instant : null;
+    }
+
+    void put(String value, Instant instant) {
+        if (entries.length != 0) {
+            entries[getSlot(value)] = new Entry(value, instant);
+        }
+    }
+
+    private int getSlot(String value) {
+        int hash = value.hashCode();
+        return (hash ^ (hash >>> 16)) & (entries.length - 1);
+    }
+
+    int size() {
+        return entries.length;
+    }
+
+    @RequiredArgsConstructor
+    private static class Entry {
+        private final String value;
+        private final Instant instant;
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Table Wrapper CSV Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.spacious_team.table_wrapper.csv;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Receives parse, search and table creation metrics of {@link CsvReportPage} and {@link CsvTableFactory}
+ * and snapshot write errors of {@link CsvSnapshotCache}.
+ * All methods do nothing by default. Listener is invoked by caller thread, so implementation
+ * should be fast and thread safe if pages are used concurrently.
+ *
+ * @see InMemoryCsvMetrics
+ */
+public interface CsvMetricsListener {
+
+    CsvMetricsListener NOOP = new CsvMetricsListener() {
+    };
+
+    /**
+     * Called after {@link CsvReportPage} input is fully parsed. Not called by streaming pages.
+     *
+     * @param bytes read bytes count or -1 if unknown
+     * @param rows  parsed rows count
+     * @param cells parsed cells count
+     */
+    default void onParse(long bytes, int rows, long cells, long durationNanos) {
+    }
+
+    /**
+     * Called after cell search by {@link CsvReportPage} find methods.
+     *
+     * @param scannedRows count of rows scanned sequentially, zero for index lookup. Rows, not cells, are counted
+     *                    to keep search loops free of counters, count is derived from search range and result
+     * @param found       true if cell is found
+     */
+    default void onFind(FindMethod method, int scannedRows, boolean found, long durationNanos) {
+    }
+
+    /**
+     * Called after table is created by {@link CsvTableFactory}.
+     */
+    default void onTableCreate(String tableName, long durationNanos) {
+    }
+
+    /**
+     * Called if snapshot of parsed file is not stored by {@link CsvSnapshotCache}. Parsing is not failed in that case.
+     *
+     * @param source parsed file
+     */
+    default void onSnapshotWriteError(Path source, IOException exception) {
+    }
+
+    enum FindMethod {
+        /**
+         * Sequential search of cell by value
+         */
+        VALUE,
+        /**
+         * Value index lookup
+         */
+        VALUE_INDEX,
+        /**
+         * Search of cell by value in blocks of rows which may contain the value by bloom filter
+         */
+        BLOCK_FILTER,
+        /**
+         * Prefix index lookup, not indexed prefix search is reported as {@link #PREDICATE}
+         */
+        PREFIX_INDEX,
+        /**
+         * Sequential search of cell by predicate
+         */
+        PREDICATE
+    }
+}
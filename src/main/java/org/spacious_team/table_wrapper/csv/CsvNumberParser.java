@@ -0,0 +1,136 @@
+/*
+ * Table Wrapper CSV Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.csv;
+
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Parses plain decimal numbers like {@code "-1 234 567,89"} directly from string chars without creating
+ * intermediate strings. Whitespaces (including no-break spaces) are ignored, '.' or ',' is a decimal separator.
+ * Parsed number is packed to long as {@code unscaledValue << SCALE_BITS | scale}.
+ * Exponent notation, more than 17 significant digits and other not plain numbers are not parsed,
+ * {@link #NOT_PARSED} is returned for them, caller should use general parsing in that case.
+ */
+@NoArgsConstructor(access = PRIVATE)
+final class CsvNumberParser {
+
+    static final long NOT_PARSED = Long.MIN_VALUE;
+    private static final int SCALE_BITS = 5;
+    private static final int SCALE_MASK = (1 << SCALE_BITS) - 1;
+    private static final long MAX_UNSCALED_VALUE = (1L << 58) - 1;
+    private static final long MAX_EXACT_DOUBLE_UNSCALED_VALUE = 1L << 53;
+    private static final double[] EXACT_POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+            1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+
+    static long parse(String value) {
+        int length = value.length();
+        long unscaledValue = 0;
+        int digits = 0;
+        int scale = -1; // -1 if decimal separator is not found
+        boolean negative = false;
+        boolean signAllowed = true;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= '0' && c <= '9') {
+                unscaledValue = unscaledValue * 10 + (c - '0');
+                if (unscaledValue > MAX_UNSCALED_VALUE) {
+                    return NOT_PARSED;
+                }
+                digits++;
+                if (scale >= 0) {
+                    scale++;
+                }
+                signAllowed = false;
+            } else if (isWhitespace(c)) {
+                continue;
+            } else if ((c == '.' || c == ',') && scale < 0 && digits > 0) {
+                scale = 0;
+            } else if ((c == '-' || c == '+') && signAllowed) {
+                negative = (c == '-');
+                signAllowed = false;
+            } else {
+                return NOT_PARSED;
+            }
+        }
+        if (digits == 0 || scale == 0 || scale > SCALE_MASK) { // no digits or no digits after decimal separator
+            return NOT_PARSED;
+        } else if (negative && unscaledValue == 0) { // negative zero
+            return NOT_PARSED;
+        }
+        scale = Math.max(0, scale);
+        long signedUnscaledValue = negative ? -unscaledValue : unscaledValue;
+        return (signedUnscaledValue << SCALE_BITS) | scale;
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || (c >= '\t' && c <= '\r') || c == '\u00A0' || c == '\u202F';
+    }
+
+    private static long getUnscaledValue(long number) {
+        return number >> SCALE_BITS;
+    }
+
+    private static int getScale(long number) {
+        return (int) (number & SCALE_MASK);
+    }
+
+    /**
+     * @return true if number is parsed and has no fraction digits
+     */
+    static boolean isInteger(long number) {
+        return number != NOT_PARSED && getScale(number) == 0;
+    }
+
+    /**
+     * @return integer value of number tested by {@link #isInteger(long)}
+     */
+    static long toLong(long number) {
+        return getUnscaledValue(number);
+    }
+
+    /**
+     * @return true if number is parsed and is converted to double with correct rounding
+     */
+    static boolean isExactDouble(long number) {
+        return number != NOT_PARSED &&
+                Math.abs(getUnscaledValue(number)) <= MAX_EXACT_DOUBLE_UNSCALED_VALUE &&
+                getScale(number) < EXACT_POWERS_OF_TEN.length;
+    }
+
+    /**
+     * @return double value of number tested by {@link #isExactDouble(long)}
+     */
+    static double toDouble(long number) {
+        long unscaledValue = getUnscaledValue(number);
+        // both operands are exact doubles, so IEEE division is correctly rounded
+        return unscaledValue / EXACT_POWERS_OF_TEN[getScale(number)];
+    }
+
+    /**
+     * @return decimal value of parsed number
+     */
+    static BigDecimal toBigDecimal(long number) {
+        return BigDecimal.valueOf(getUnscaledValue(number), getScale(number));
+    }
+}
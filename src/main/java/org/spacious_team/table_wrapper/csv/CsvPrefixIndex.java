@@ -0,0 +1,91 @@
+/*
+ * Table Wrapper CSV Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.csv;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spacious_team.table_wrapper.api.TableCellAddress;
+import org.spacious_team.table_wrapper.csv.CsvValueIndex.AddressList;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.spacious_team.table_wrapper.csv.CsvValueIndex.findFirst;
+import static org.spacious_team.table_wrapper.csv.CsvValueIndex.getRow;
+import static org.spacious_team.table_wrapper.csv.CsvValueIndex.pack;
+import static org.spacious_team.table_wrapper.csv.CsvValueIndex.toTableCellAddress;
+
+/**
+ * Sorted array of distinct normalized (trimmed lower case) cell values with addresses of cells,
+ * all values with the same prefix are neighbours.
+ */
+class CsvPrefixIndex {
+
+    private final String[] values;
+    private final long[][] addresses;
+
+    private CsvPrefixIndex(String[] values, long[][] addresses) {
+        this.values = values;
+        this.addresses = addresses;
+    }
+
+    static CsvPrefixIndex of(CsvRowStorage rows) {
+        Map<String, AddressList> index = new HashMap<>();
+        String @Nullable [] row;
+        for (int rowNum = 0; (row = rows.getRow(rowNum)) != null; rowNum++) {
+            for (int column = 0; column < row.length; column++) {
+                @Nullable String cell = row[column];
+                if (cell != null) {
+                    index.computeIfAbsent(normalize(cell), k -> new AddressList())
+                            .add(pack(rowNum, column));
+                }
+            }
+        }
+        String[] values = index.keySet().toArray(new String[0]);
+        Arrays.sort(values);
+        long[][] addresses = new long[values.length][];
+        for (int i = 0; i < values.length; i++) {
+            //noinspection ConstantConditions
+            addresses[i] = index.get(values[i]).toArray();
+        }
+        return new CsvPrefixIndex(values, addresses);
+    }
+
+    static String normalize(String value) {
+        return value.trim().toLowerCase();
+    }
+
+    /**
+     * Finds first (lowest row, lowest column) cell which normalized value starts with normalized prefix.
+     *
+     * @param prefix normalized prefix
+     */
+    TableCellAddress find(String prefix, int startRow, int endRow, int startColumn, int endColumn) {
+        int i = Arrays.binarySearch(values, prefix);
+        long result = -1;
+        for (i = (i < 0) ? (-i - 1) : i; i < values.length && values[i].startsWith(prefix); i++) {
+            long address = findFirst(addresses[i], startRow, endRow, startColumn, endColumn);
+            if (address != -1 && (result == -1 || address < result)) {
+                result = address;
+                endRow = getRow(address) + 1; // next values can't have address less than found in later rows
+            }
+        }
+        return toTableCellAddress(result);
+    }
+}
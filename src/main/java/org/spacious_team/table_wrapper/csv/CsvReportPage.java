@@ -18,35 +18,69 @@
 
 package org.spacious_team.table_wrapper.csv;
 
+import com.univocity.parsers.csv.CsvFormat;
 import com.univocity.parsers.csv.CsvParser;
 import com.univocity.parsers.csv.CsvParserSettings;
-import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spacious_team.table_wrapper.api.AbstractReportPage;
 import org.spacious_team.table_wrapper.api.TableCellAddress;
+import org.spacious_team.table_wrapper.api.TableCellRange;
+import org.spacious_team.table_wrapper.csv.CsvMetricsListener.FindMethod;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.function.Predicate;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.spacious_team.table_wrapper.api.TableCellAddress.NOT_FOUND;
 
-public class CsvReportPage extends AbstractReportPage<CsvTableRow> {
+public class CsvReportPage extends AbstractReportPage<CsvTableRow> implements Closeable {
 
-    private final String[][] rows;
+    private final CsvRowStorage rows;
+    private final CsvReportPageOptions options;
+    private final @Nullable CsvTableRow[] rowCache;
+    private volatile @Nullable CsvValueIndex valueIndex;
+    private volatile @Nullable CsvPrefixIndex prefixIndex;
+    private volatile @Nullable CsvBlockBloomFilter blockFilter;
 
     /**
      * Field and line delimiter detected automatically. UTF-8 encoded file expected.
      */
     public CsvReportPage(Path path) throws IOException {
-        try (InputStream inputStream = Files.newInputStream(path, StandardOpenOption.READ)) {
-            this.rows = readRows(inputStream, UTF_8, getDefaultCsvParserSettings());
+        this(path, UTF_8, getDefaultCsvParserSettings());
+    }
+
+    /**
+     * Regular file is read by memory mapping, file content is decoded without copying bytes to heap.
+     * Gzip and zip compressed files are decompressed on the fly, first file entry of zip archive is read.
+     */
+    public CsvReportPage(Path path, Charset charset, CsvParserSettings csvParserSettings) throws IOException {
+        this(path, charset, csvParserSettings, CsvReportPageOptions.DEFAULT);
+    }
+
+    public CsvReportPage(Path path, Charset charset, CsvParserSettings csvParserSettings,
+                         CsvReportPageOptions options) throws IOException {
+        long startNanos = System.nanoTime();
+        this.rows = readRows(path, charset, getParserSettings(csvParserSettings, options), options);
+        this.options = options;
+        this.rowCache = createRowCache(options);
+        CsvMetricsListener metricsListener = options.getMetricsListener();
+        if (metricsListener != CsvMetricsListener.NOOP) {
+            long bytes = Files.isRegularFile(path) ? Files.size(path) : -1;
+            notifyParse(metricsListener, rows, bytes, startNanos);
         }
     }
 
@@ -63,25 +97,219 @@ public class CsvReportPage extends AbstractReportPage<CsvTableRow> {
      * @implSpec Does not close inputStream
      */
     public CsvReportPage(InputStream inputStream, Charset charset, CsvParserSettings csvParserSettings) throws IOException {
-        CloseIgnoringInputStream closeIgnoringInputStream = new CloseIgnoringInputStream(inputStream);
-        this.rows = readRows(closeIgnoringInputStream, charset, csvParserSettings);
+        this(inputStream, charset, csvParserSettings, CsvReportPageOptions.DEFAULT);
+    }
+
+    /**
+     * Gzip and zip compressed input is decompressed on the fly, first file entry of zip archive is read.
+     *
+     * @implSpec Does not close inputStream
+     */
+    public CsvReportPage(InputStream inputStream, Charset charset, CsvParserSettings csvParserSettings,
+                         CsvReportPageOptions options) throws IOException {
+        long startNanos = System.nanoTime();
+        CountingInputStream countingInputStream = new CountingInputStream(new CloseIgnoringInputStream(inputStream));
+        this.rows = readRows(openReader(countingInputStream, charset),
+                getParserSettings(csvParserSettings, options),
+                options);
+        this.options = options;
+        this.rowCache = createRowCache(options);
+        CsvMetricsListener metricsListener = options.getMetricsListener();
+        if (metricsListener != CsvMetricsListener.NOOP) {
+            notifyParse(metricsListener, rows, countingInputStream.getCount(), startNanos);
+        }
     }
 
     /**
-     * @implSpec Closes inputStream
+     * @return settings with cached format and selected columns from options
      */
-    private static String[] @NonNull [] readRows(InputStream inputStream,
-                                                 Charset charset,
-                                                 CsvParserSettings csvParserSettings) throws IOException {
-        try (Reader inputReader = new InputStreamReader(inputStream, charset)) {
-            CsvParser parser = new CsvParser(csvParserSettings);
-            return parser.parseAll(inputReader)
-                    .toArray(new String[0][]);
+    private static CsvParserSettings getParserSettings(CsvParserSettings settings, CsvReportPageOptions options) {
+        @Nullable CsvFormatCache formatCache = options.getFormatCache();
+        @Nullable String formatSourceId = options.getFormatSourceId();
+        if (formatCache != null && formatSourceId != null) {
+            settings = formatCache.applyTo(formatSourceId, settings);
+        }
+        int @Nullable [] selectedColumns = options.getSelectedColumns();
+        if (selectedColumns != null) {
+            settings = settings.clone();
+            settings.selectIndexes(Arrays.stream(selectedColumns).boxed().toArray(Integer[]::new));
+            settings.setColumnReorderingEnabled(false);
         }
+        return settings;
+    }
+
+    private static void notifyParse(CsvMetricsListener metricsListener, CsvRowStorage rows, long bytes, long startNanos) {
+        long durationNanos = System.nanoTime() - startNanos;
+        metricsListener.onParse(bytes, rows.getLastRowNum() + 1, rows.getCellCount(), durationNanos);
+    }
+
+    static Reader openReader(Path path, Charset charset) throws IOException {
+        if (!Files.isRegularFile(path)) {
+            return openReader(Files.newInputStream(path, StandardOpenOption.READ), charset);
+        }
+        return openReader(FileChannel.open(path, StandardOpenOption.READ), charset);
+    }
+
+    /**
+     * Uncompressed file is read by memory mapping, magic bytes are read from channel without reopening file.
+     *
+     * @implSpec Closes channel on reader close or exception
+     */
+    private static Reader openReader(FileChannel channel, Charset charset) throws IOException {
+        boolean isCompressed;
+        try {
+            isCompressed = CompressedInputStreams.isCompressed(channel);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        return isCompressed ?
+                openReader(Channels.newInputStream(channel), charset) :
+                new MappedFileReader(channel, charset);
+    }
+
+    /**
+     * @implSpec Closes inputStream on exception
+     */
+    static Reader openReader(InputStream inputStream, Charset charset) throws IOException {
+        InputStream decompressedInputStream = CompressedInputStreams.decompressIfCompressed(inputStream);
+        return new InputStreamReader(decompressedInputStream, charset);
+    }
+
+    private static CsvRowStorage readRows(Path path,
+                                          Charset charset,
+                                          CsvParserSettings csvParserSettings,
+                                          CsvReportPageOptions options) throws IOException {
+        @Nullable CsvSnapshotCache snapshotCache = options.getSnapshotCache();
+        if (snapshotCache == null || !Files.isRegularFile(path)) {
+            return parseRows(path, charset, csvParserSettings, options);
+        }
+        @Nullable CsvRowStorage snapshotRows = snapshotCache.get(path, charset, csvParserSettings, options);
+        if (snapshotRows != null) {
+            return snapshotRows;
+        }
+        String key = snapshotCache.getKey(path, charset, csvParserSettings, options);
+        CsvRowStorage rows = parseRows(path, charset, csvParserSettings, options);
+        try {
+            snapshotCache.put(path, charset, csvParserSettings, options, key, rows);
+        } catch (RuntimeException e) {
+            rows.close();
+            throw e;
+        }
+        return rows;
+    }
+
+    private static CsvRowStorage parseRows(Path path,
+                                           Charset charset,
+                                           CsvParserSettings csvParserSettings,
+                                           CsvReportPageOptions options) throws IOException {
+        if (!Files.isRegularFile(path)) {
+            return readRows(openReader(path, charset), csvParserSettings, options);
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) { // reader closes channel too
+            if (!isFormatToBeCached(csvParserSettings, options) && // else format is detected and cached by CsvParser
+                    !CompressedInputStreams.isCompressed(channel)) {
+                @Nullable Executor executor = options.getParseExecutor();
+                if (executor != null &&
+                        ParallelCsvParser.isSupported(path, charset, csvParserSettings, options.getParseChunkSize())) {
+                    return ParallelCsvParser.parse(path, charset, csvParserSettings, options, executor);
+                }
+                if (options.isByteParsingEnabled() && ByteCsvParser.isSupported(path, charset, csvParserSettings)) {
+                    @Nullable CsvRowStorage rows =
+                            ByteCsvParser.parse(path, channel, charset, csvParserSettings, options);
+                    if (rows != null) {
+                        return rows;
+                    }
+                }
+            }
+            return readRows(openReader(channel, charset), csvParserSettings, options);
+        }
+    }
+
+    /**
+     * @implSpec Closes reader
+     */
+    static CsvRowStorage readRows(Reader reader,
+                                  CsvParserSettings csvParserSettings,
+                                  CsvReportPageOptions options) throws IOException {
+        try (Reader inputReader = reader) {
+            CsvRowStorageBuilder builder = CsvRowStorageBuilder.of(options.getCellStorage());
+            try {
+                CsvParser parser = new CsvParser(csvParserSettings);
+                parser.beginParsing(inputReader);
+                String @Nullable [] row;
+                boolean isEmpty = true;
+                while ((row = parser.parseNext()) != null) {
+                    builder.append(row);
+                    isEmpty = false;
+                }
+                @Nullable CsvFormatCache formatCache = options.getFormatCache();
+                @Nullable String formatSourceId = options.getFormatSourceId();
+                @Nullable CsvFormat detectedFormat = parser.getDetectedFormat();
+                if (!isEmpty && formatCache != null && formatSourceId != null && detectedFormat != null) {
+                    formatCache.put(formatSourceId, detectedFormat);
+                }
+                return builder.build();
+            } catch (RuntimeException e) {
+                builder.discard();
+                throw e;
+            }
+        }
+    }
+
+    private static boolean isFormatToBeCached(CsvParserSettings csvParserSettings, CsvReportPageOptions options) {
+        return options.getFormatCache() != null &&
+                options.getFormatSourceId() != null &&
+                CsvFormatCache.isFormatDetectionEnabled(csvParserSettings);
+    }
+
+    /**
+     * Opens snapshot written by {@link #writeSnapshot(Path)}. Snapshot file is memory mapped,
+     * cells are decoded on access, page should be closed to unmap file.
+     */
+    public static CsvReportPage openSnapshot(Path snapshot) throws IOException {
+        return openSnapshot(snapshot, CsvReportPageOptions.DEFAULT);
+    }
+
+    /**
+     * Opens snapshot written by {@link #writeSnapshot(Path)}, options for cell storage and parsing are not used.
+     */
+    public static CsvReportPage openSnapshot(Path snapshot, CsvReportPageOptions options) throws IOException {
+        return new CsvReportPage(CsvSnapshot.open(snapshot), options);
+    }
+
+    /**
+     * Writes binary snapshot of page rows. Distinct cell values are stored once.
+     * Snapshot may be reopened by {@link #openSnapshot(Path)} without parsing.
+     */
+    public void writeSnapshot(Path snapshot) throws IOException {
+        CsvSnapshot.write(rows, snapshot, "");
     }
 
     public CsvReportPage(String[][] cells) {
-        this.rows = cells;
+        this(new ArrayCsvRowStorage(cells));
+    }
+
+    CsvReportPage(CsvRowStorage rows) {
+        this(rows, CsvReportPageOptions.DEFAULT);
+    }
+
+    CsvReportPage(CsvRowStorage rows, CsvReportPageOptions options) {
+        this.rows = rows;
+        this.options = options;
+        this.rowCache = createRowCache(options);
+    }
+
+    /**
+     * @return direct mapped cache, row is cached in slot {@code rowNum & (length - 1)}
+     */
+    private static @Nullable CsvTableRow[] createRowCache(CsvReportPageOptions options) {
+        int size = options.getRowCacheSize();
+        if (size <= 0) {
+            return new CsvTableRow[0];
+        }
+        int powerOfTwoSize = (size >= (1 << 30)) ? (1 << 30) : Integer.highestOneBit(size - 1) << 1;
+        return new CsvTableRow[Math.max(1, powerOfTwoSize)];
     }
 
     public static CsvParserSettings getDefaultCsvParserSettings() {
@@ -92,22 +320,233 @@ public class CsvReportPage extends AbstractReportPage<CsvTableRow> {
 
     @Override
     public TableCellAddress find(Object value, int startRow, int endRow, int startColumn, int endColumn) {
-        return CsvTableHelper.find(rows, value, startRow, endRow, startColumn, endColumn);
+        long startNanos = getFindStartNanos();
+        if (value != null && options.isValueIndexEnabled()) {
+            TableCellAddress address = getValueIndex().find(value.toString(), startRow, endRow, startColumn, endColumn);
+            return notifyFind(FindMethod.VALUE_INDEX, startNanos, startRow, startRow, address);
+        } else if (value != null && options.isBlockFilterEnabled()) {
+            return findByBlockFilter(value.toString(), startNanos, startRow, endRow, startColumn, endColumn);
+        }
+        TableCellAddress address = rows.find(value, startRow, endRow, startColumn, endColumn);
+        return notifyFind(FindMethod.VALUE, startNanos, startRow, endRow, address);
+    }
+
+    /**
+     * @return search start time or zero if metrics listener is not set, so search is not slowed by timer
+     */
+    private long getFindStartNanos() {
+        return (options.getMetricsListener() != CsvMetricsListener.NOOP) ? System.nanoTime() : 0;
+    }
+
+    /**
+     * @param endRow pass startRow for index lookup
+     * @return address
+     */
+    private TableCellAddress notifyFind(FindMethod method, long startNanos, int startRow, int endRow,
+                                        TableCellAddress address) {
+        CsvMetricsListener metricsListener = options.getMetricsListener();
+        if (metricsListener != CsvMetricsListener.NOOP) {
+            int scannedRows = getScannedRows(startRow, endRow, address);
+            metricsListener.onFind(method, scannedRows, address != NOT_FOUND, System.nanoTime() - startNanos);
+        }
+        return address;
+    }
+
+    private int getScannedRows(int startRow, int endRow, TableCellAddress address) {
+        startRow = Math.max(0, startRow);
+        if (startRow >= endRow) {
+            return 0;
+        } else if (address != NOT_FOUND) {
+            return address.getRow() - startRow + 1;
+        }
+        // scan is completed, so rows up to endRow are already read by streaming storage
+        return Math.max(0, rows.getRowCountBefore(endRow) - startRow);
+    }
+
+    private TableCellAddress findByBlockFilter(String value, long startNanos, int startRow, int endRow,
+                                               int startColumn, int endColumn) {
+        CsvBlockBloomFilter filter = getBlockFilter();
+        TableCellAddress address = filter.find(rows, value, startRow, endRow, startColumn, endColumn);
+        CsvMetricsListener metricsListener = options.getMetricsListener();
+        if (metricsListener != CsvMetricsListener.NOOP) {
+            long durationNanos = System.nanoTime() - startNanos;
+            int scanEndRow = (address != NOT_FOUND) ? (address.getRow() + 1) : endRow;
+            int scannedRows = filter.getScannedRowCount(value, startRow, scanEndRow);
+            metricsListener.onFind(FindMethod.BLOCK_FILTER, scannedRows, address != NOT_FOUND, durationNanos);
+        }
+        return address;
+    }
+
+    private CsvBlockBloomFilter getBlockFilter() {
+        @Nullable CsvBlockBloomFilter filter = blockFilter;
+        if (filter == null) {
+            synchronized (this) {
+                filter = blockFilter;
+                if (filter == null) {
+                    filter = CsvBlockBloomFilter.of(rows);
+                    blockFilter = filter;
+                }
+            }
+        }
+        return filter;
+    }
+
+    private CsvValueIndex getValueIndex() {
+        @Nullable CsvValueIndex index = valueIndex;
+        if (index == null) {
+            synchronized (this) {
+                index = valueIndex;
+                if (index == null) {
+                    index = CsvValueIndex.of(rows);
+                    valueIndex = index;
+                }
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Finds cell which trimmed lower case string value starts with trimmed lower case prefix,
+     * uses prefix index if enabled by {@link CsvReportPageOptions#isPrefixIndexEnabled()}.
+     */
+    @Override
+    public TableCellAddress findByPrefix(@Nullable String prefix, int startRow, int endRow, int startColumn, int endColumn) {
+        if (prefix != null && !prefix.isEmpty() && options.isPrefixIndexEnabled()) {
+            long startNanos = getFindStartNanos();
+            String normalizedPrefix = CsvPrefixIndex.normalize(prefix);
+            TableCellAddress address = getPrefixIndex().find(normalizedPrefix, startRow, endRow, startColumn, endColumn);
+            return notifyFind(FindMethod.PREFIX_INDEX, startNanos, startRow, startRow, address);
+        }
+        return super.findByPrefix(prefix, startRow, endRow, startColumn, endColumn);
+    }
+
+    /**
+     * Finds ranges of tables by one scan of rows. Range of each table is the same
+     * as found by {@link #findByPrefix(String)} of table name and last row string.
+     * Ranges are built from rows read by the scan, rows are not read again, so table first row
+     * may be evicted from window of streaming page before table last row is found.
+     *
+     * @return ranges in order of descriptors, empty range if table is not found
+     */
+    List<TableCellRange> getTableCellRanges(List<? extends CsvTableDescriptor<?>> tableDescriptors) {
+        int count = tableDescriptors.size();
+        String[] tableNames = new String[count];
+        String[] lastRowStrings = new String[count];
+        int[] firstRows = new int[count];
+        int[] lastRows = new int[count];
+        int[] lastColumns = new int[count];
+        boolean[] isCompleted = new boolean[count];
+        int notCompletedCount = count;
+        for (int i = 0; i < count; i++) {
+            CsvTableDescriptor<?> tableDescriptor = tableDescriptors.get(i);
+            tableNames[i] = CsvPrefixIndex.normalize(tableDescriptor.getTableName());
+            lastRowStrings[i] = CsvPrefixIndex.normalize(tableDescriptor.getLastRowString());
+            firstRows[i] = -1;
+            lastRows[i] = -1;
+        }
+        String @Nullable [] row;
+        for (int rowNum = 0; notCompletedCount > 0 && (row = rows.getRow(rowNum)) != null; rowNum++) {
+            for (@Nullable String cell : row) {
+                if (cell == null) {
+                    continue;
+                }
+                String value = CsvPrefixIndex.normalize(cell);
+                for (int i = 0; i < count; i++) {
+                    if (isCompleted[i]) {
+                        continue;
+                    } else if (firstRows[i] == -1) {
+                        if (value.startsWith(tableNames[i])) {
+                            firstRows[i] = rowNum;
+                        }
+                    } else if (rowNum > firstRows[i] + tableDescriptors.get(i).getHeadersRowCount() &&
+                            value.startsWith(lastRowStrings[i])) {
+                        lastRows[i] = rowNum;
+                        lastColumns[i] = row.length - 1;
+                        isCompleted[i] = true;
+                        notCompletedCount--;
+                    }
+                }
+            }
+        }
+        List<TableCellRange> tableRanges = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            tableRanges.add(isCompleted[i] ?
+                    TableCellRange.of(firstRows[i], lastRows[i], 0, lastColumns[i]) : // first row has table name cell
+                    TableCellRange.EMPTY_RANGE);
+        }
+        return tableRanges;
+    }
+
+    private CsvPrefixIndex getPrefixIndex() {
+        @Nullable CsvPrefixIndex index = prefixIndex;
+        if (index == null) {
+            synchronized (this) {
+                index = prefixIndex;
+                if (index == null) {
+                    index = CsvPrefixIndex.of(rows);
+                    prefixIndex = index;
+                }
+            }
+        }
+        return index;
     }
 
     @Override
     public TableCellAddress find(int startRow, int endRow, int startColumn, int endColumn,
                                  Predicate<@Nullable Object> cellValuePredicate) {
-        return CsvTableHelper.find(rows, startRow, endRow, startColumn, endColumn, cellValuePredicate::test);
+        long startNanos = getFindStartNanos();
+        TableCellAddress address = rows.find(startRow, endRow, startColumn, endColumn, cellValuePredicate::test,
+                options.getParallelFindThreshold());
+        return notifyFind(FindMethod.PREDICATE, startNanos, startRow, endRow, address);
     }
 
+    /**
+     * Returns cached row object if row was recently requested, so cells of the row are also reused.
+     * Repeated calls may return the same or equal row object,
+     * depending on {@link CsvReportPageOptions#getRowCacheSize()}.
+     */
     @Override
     public @Nullable CsvTableRow getRow(int i) {
-        return (i < 0 || i >= rows.length) ? null : CsvTableRow.of(rows[i], i);
+        @Nullable CsvTableRow[] cache = rowCache;
+        if (cache.length == 0 || i < 0) {
+            return createRow(i);
+        }
+        int slot = i & (cache.length - 1);
+        @Nullable CsvTableRow cachedRow = cache[slot];
+        if (cachedRow != null && cachedRow.getRowNum() == i) {
+            return cachedRow;
+        }
+        @Nullable CsvTableRow row = createRow(i);
+        if (row != null) {
+            cache[slot] = row; // row has final fields and volatile cells cache, so it is safely published
+        }
+        return row;
+    }
+
+    /**
+     * @return cell value without creating row object or null if row or cell is absent
+     */
+    @Nullable String getCellValue(int rowNum, int columnIndex) {
+        return rows.getCellValue(rowNum, columnIndex);
+    }
+
+    private @Nullable CsvTableRow createRow(int i) {
+        String @Nullable [] row = rows.getRow(i);
+        return (row == null) ? null : CsvTableRow.of(row, i);
     }
 
     @Override
     public int getLastRowNum() {
-        return rows.length - 1;
+        return rows.getLastRowNum();
+    }
+
+    /**
+     * Releases resources held by page. Page created from {@code String[][]} or fully read input has nothing to release.
+     * Cached rows are dropped, so rows of closed off-heap or snapshot page can't be accessed.
+     */
+    @Override
+    public void close() throws IOException {
+        Arrays.fill(rowCache, null);
+        rows.close();
     }
 }
@@ -0,0 +1,212 @@
+/*
+ * Table Wrapper CSV Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.csv;
+
+import com.univocity.parsers.csv.CsvParserSettings;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.toList;
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Creates report pages of many files or input streams concurrently. Number of concurrently parsed inputs
+ * is limited by {@link #maxConcurrency}, so memory used by parsing and I/O concurrency are bounded,
+ * next input is submitted when one of parsing inputs is completed.
+ * <p>
+ * Inputs are parsed by {@link #executor}. If executor is not set, inputs are parsed by virtual threads
+ * on Java 21+ or by thread pool of {@link #maxConcurrency} threads on older Java, executor is shut down
+ * after loading.
+ */
+@Builder
+@ToString
+public class CsvReportPageLoader {
+
+    @Builder.Default
+    private final Charset charset = UTF_8;
+
+    /**
+     * Called for each input, because parser settings are mutable and not thread safe.
+     */
+    @Builder.Default
+    @ToString.Exclude
+    private final Supplier<CsvParserSettings> csvParserSettings = CsvReportPage::getDefaultCsvParserSettings;
+
+    @Builder.Default
+    private final CsvReportPageOptions options = CsvReportPageOptions.DEFAULT;
+
+    @Builder.Default
+    private final @Nullable Executor executor = null;
+
+    /**
+     * Max number of concurrently parsed inputs.
+     */
+    @Builder.Default
+    private final int maxConcurrency = 2 * Runtime.getRuntime().availableProcessors();
+
+    /**
+     * @return results in order of paths
+     */
+    public List<Result<Path>> load(Collection<Path> paths) throws InterruptedException {
+        return load(paths, path -> new CsvReportPage(path, charset, csvParserSettings.get(), options));
+    }
+
+    /**
+     * Input stream is closed after parsing.
+     *
+     * @return results in order of input streams
+     */
+    public List<Result<InputStreamSupplier>> loadInputStreams(Collection<InputStreamSupplier> inputStreams)
+            throws InterruptedException {
+        return load(inputStreams, inputStreamSupplier -> {
+            try (InputStream inputStream = inputStreamSupplier.get()) {
+                return new CsvReportPage(inputStream, charset, csvParserSettings.get(), options);
+            }
+        });
+    }
+
+    private <S> List<Result<S>> load(Collection<S> sources, ReportPageFactory<S> reportPageFactory)
+            throws InterruptedException {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("Max concurrency should be positive, got " + maxConcurrency);
+        }
+        @Nullable ExecutorService defaultExecutor = (executor == null) ? newDefaultExecutor(maxConcurrency) : null;
+        Executor loadExecutor = Objects.requireNonNull((executor != null) ? executor : defaultExecutor);
+        Semaphore semaphore = new Semaphore(maxConcurrency);
+        List<CompletableFuture<Result<S>>> results = new ArrayList<>(sources.size());
+        AtomicBoolean isCancelled = new AtomicBoolean(false);
+        try {
+            for (S source : sources) {
+                semaphore.acquire();
+                try {
+                    results.add(CompletableFuture.supplyAsync(() -> {
+                        try {
+                            if (isCancelled.get()) {
+                                return Result.failure(source, new CancellationException("Loading is cancelled"));
+                            }
+                            return Result.success(source, reportPageFactory.create(source));
+                        } catch (Exception e) {
+                            return Result.failure(source, e);
+                        } finally {
+                            semaphore.release();
+                        }
+                    }, loadExecutor));
+                } catch (RejectedExecutionException e) {
+                    semaphore.release();
+                    throw e;
+                }
+            }
+            return results.stream()
+                    .map(CompletableFuture::join)
+                    .collect(toList());
+        } catch (InterruptedException | RuntimeException e) {
+            // pages of completed and running tasks are not returned, they are closed on task completion
+            isCancelled.set(true);
+            results.forEach(result -> result.thenAccept(Result::closeReportPage));
+            throw e;
+        } finally {
+            if (defaultExecutor != null) {
+                defaultExecutor.shutdown();
+            }
+        }
+    }
+
+    /**
+     * @return virtual thread per task executor on Java 21+ or fixed thread pool
+     */
+    private static ExecutorService newDefaultExecutor(int poolSize) {
+        try {
+            Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return Objects.requireNonNull((ExecutorService) method.invoke(null));
+        } catch (ReflectiveOperationException e) { // Java 11 - 20
+            return Executors.newFixedThreadPool(poolSize, runnable -> {
+                Thread thread = new Thread(runnable, "csv-report-page-loader");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    @FunctionalInterface
+    public interface InputStreamSupplier {
+        InputStream get() throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface ReportPageFactory<S> {
+        CsvReportPage create(S source) throws IOException;
+    }
+
+    /**
+     * Report page or exception thrown on its creation.
+     */
+    @Getter
+    @ToString
+    @RequiredArgsConstructor(access = PRIVATE)
+    public static class Result<S> {
+        private final S source;
+        private final @Nullable CsvReportPage reportPage;
+        private final @Nullable Exception exception;
+
+        private static <S> Result<S> success(S source, CsvReportPage reportPage) {
+            return new Result<>(source, reportPage, null);
+        }
+
+        private static <S> Result<S> failure(S source, Exception exception) {
+            return new Result<>(source, null, exception);
+        }
+
+        public boolean isSuccess() {
+            return reportPage != null;
+        }
+
+        private void closeReportPage() {
+            if (reportPage != null) {
+                try {
+                    reportPage.close();
+                } catch (IOException ignore) {
+                    // page is not returned to caller, nothing else can be done
+                }
+            }
+        }
+    }
+}
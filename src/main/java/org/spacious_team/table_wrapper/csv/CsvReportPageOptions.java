@@ -0,0 +1,154 @@
+/*
+ * Table Wrapper CSV Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.csv;
+
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Options of {@link CsvReportPage} creation, not related to CSV format.
+ */
+@Getter
+@Builder
+@ToString
+@EqualsAndHashCode
+public class CsvReportPageOptions {
+
+    public static final CsvReportPageOptions DEFAULT = CsvReportPageOptions.builder().build();
+
+    @Builder.Default
+    private final CsvCellStorage cellStorage = CsvCellStorage.ARRAY;
+
+    /**
+     * If enabled, first search of not null value builds value to cell addresses index of whole page,
+     * next searches of not null values are hash lookups. Index requires memory comparable to page cells.
+     */
+    @Builder.Default
+    private final boolean valueIndexEnabled = false;
+
+    /**
+     * If enabled, first {@link CsvReportPage#findByPrefix(String, int, int, int, int)} call builds sorted index
+     * of trimmed lower case cell values of whole page, next prefix searches are binary searches.
+     */
+    @Builder.Default
+    private final boolean prefixIndexEnabled = false;
+
+    /**
+     * If enabled, first search of not null value builds bloom filters of cell values for each block of 1024 rows,
+     * searches of not null values scan only blocks which may contain the value. Filters require about one byte
+     * per cell. Ignored if {@link #valueIndexEnabled} is set.
+     */
+    @Builder.Default
+    private final boolean blockFilterEnabled = false;
+
+    /**
+     * If enabled, regular uncompressed file in UTF-8 or single byte ASCII compatible charset is tokenized
+     * on raw bytes and only kept cell values are decoded. Used if header extraction is disabled and rows skipping
+     * or limiting is not configured. File is parsed by CSV parser if format or content is not supported
+     * by byte tokenizer, for example on comments, unescaped quotes or chars after closing quote.
+     */
+    @Builder.Default
+    private final boolean byteParsingEnabled = false;
+
+    /**
+     * If set, large regular file is split to chunks at record boundaries and chunks are parsed by executor
+     * concurrently, for example by {@link java.util.concurrent.ForkJoinPool#commonPool()}.
+     * Used for UTF-8 and single byte ASCII compatible charsets only, if header extraction is disabled
+     * and rows skipping or limiting is not configured. Otherwise file is parsed by current thread.
+     */
+    @Builder.Default
+    private final @Nullable Executor parseExecutor = null;
+
+    /**
+     * Approximate size of file chunk in bytes parsed by one {@link #parseExecutor} task.
+     * Files less than two chunks are parsed by current thread.
+     */
+    @Builder.Default
+    private final long parseChunkSize = 64L * 1024 * 1024;
+
+    /**
+     * Minimal number of searched rows to test rows by predicate concurrently in
+     * {@link CsvReportPage#find(int, int, int, int, java.util.function.Predicate)}.
+     * Predicate should be thread safe if enabled. Streaming pages are always searched sequentially.
+     * Disabled by default.
+     */
+    @Builder.Default
+    private final int parallelFindThreshold = Integer.MAX_VALUE;
+
+    /**
+     * Number of recently requested rows, which objects are reused by {@link CsvReportPage#getRow(int)}
+     * together with created cells. Rounded up to power of two, zero disables cache. Cache is enabled by default,
+     * so repeated {@link CsvReportPage#getRow(int)} calls may return the same row object, shared by threads.
+     */
+    @Builder.Default
+    private final int rowCacheSize = 64;
+
+    /**
+     * If set, only cells of columns with these zero based indexes are stored, other cells are discarded
+     * by parser and have null values. Column indexes of stored cells are not changed. Columns of table names
+     * and table headers should be selected also to find tables. All columns are stored by default.
+     * Array is copied by builder and getter, so options can't be changed by array modification.
+     */
+    private final int @Nullable [] selectedColumns;
+
+    /**
+     * If set together with {@link #formatSourceId}, CSV format detected by first parsed file of the source is cached,
+     * next files of the source are parsed with cached format without format detection.
+     */
+    @Builder.Default
+    private final @Nullable CsvFormatCache formatCache = null;
+
+    /**
+     * Key of {@link #formatCache}, files of the same source should have the same CSV format.
+     */
+    @Builder.Default
+    private final @Nullable String formatSourceId = null;
+
+    /**
+     * If set, rows of regular file are reopened from snapshot of the cache without parsing,
+     * if the file was not changed after snapshot creation. Otherwise parsed rows are stored to the cache.
+     * Rows of snapshot are memory mapped and {@link #cellStorage} is not used for them, page should be closed
+     * to unmap snapshot file.
+     */
+    @Builder.Default
+    private final @Nullable CsvSnapshotCache snapshotCache = null;
+
+    /**
+     * Receives parse and search metrics.
+     */
+    @Builder.Default
+    private final CsvMetricsListener metricsListener = CsvMetricsListener.NOOP;
+
+    public int @Nullable [] getSelectedColumns() {
+        return (selectedColumns == null) ? null : selectedColumns.clone();
+    }
+
+    public static class CsvReportPageOptionsBuilder {
+
+        public CsvReportPageOptionsBuilder selectedColumns(int @Nullable [] selectedColumns) {
+            this.selectedColumns = (selectedColumns == null) ? null : selectedColumns.clone();
+            return this;
+        }
+    }
+}
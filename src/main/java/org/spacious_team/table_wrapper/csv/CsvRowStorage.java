@@ -0,0 +1,92 @@
+/*
+ * Table Wrapper CSV Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.csv;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spacious_team.table_wrapper.api.TableCellAddress;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.function.Predicate;
+
+/**
+ * Rows holder of {@link CsvReportPage}.
+ */
+interface CsvRowStorage extends Closeable {
+
+    /**
+     * @return row cells or null if row does not exist
+     */
+    String @Nullable [] getRow(int rowNum);
+
+    /**
+     * @return cell value or null if row or cell does not exist
+     */
+    default @Nullable String getCellValue(int rowNum, int column) {
+        String @Nullable [] row = getRow(rowNum);
+        return (row == null || column < 0 || column >= row.length) ? null : row[column];
+    }
+
+    /**
+     * @return last row number or -1 if storage is empty
+     */
+    int getLastRowNum();
+
+    /**
+     * @return count of rows with number less than endRow
+     */
+    default int getRowCountBefore(int endRow) {
+        return (int) Math.max(0, Math.min(endRow, getLastRowNum() + 1L));
+    }
+
+    /**
+     * @return total cells count of all rows
+     */
+    default long getCellCount() {
+        long cells = 0;
+        String @Nullable [] row;
+        for (int rowNum = 0; (row = getRow(rowNum)) != null; rowNum++) {
+            cells += row.length;
+        }
+        return cells;
+    }
+
+    default TableCellAddress find(@Nullable Object expected, int startRow, int endRow, int startColumn, int endColumn) {
+        return CsvTableHelper.find(this, expected, startRow, endRow, startColumn, endColumn);
+    }
+
+    default TableCellAddress find(int startRow, int endRow, int startColumn, int endColumn,
+                                  Predicate<@Nullable String> predicate) {
+        return CsvTableHelper.find(this, startRow, endRow, startColumn, endColumn, predicate);
+    }
+
+    /**
+     * Searches rows concurrently if row range contains at least parallelThreshold rows
+     * and storage supports concurrent row access, otherwise searches sequentially.
+     */
+    default TableCellAddress find(int startRow, int endRow, int startColumn, int endColumn,
+                                  Predicate<@Nullable String> predicate, int parallelThreshold) {
+        return find(startRow, endRow, startColumn, endColumn, predicate);
+    }
+
+    @Override
+    default void close() throws IOException {
+        // nothing to release by default
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Table Wrapper CSV Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.csv;
+
+/**
+ * Collects parsed rows one by one.
+ */
+interface CsvRowStorageBuilder {
+
+    /**
+     * Builder may copy cells and not keep the row array.
+     */
+    void append(String[] row);
+
+    CsvRowStorage build();
+
+    /**
+     * Releases appended rows if rows are not built, for example if parsing is failed or aborted.
+     * Builder can't be used after discard.
+     */
+    default void discard() {
+        // nothing to release by default, rows are collected by GC
+    }
+
+    static CsvRowStorageBuilder of(CsvCellStorage cellStorage) {
+        switch (cellStorage) {
+            case ARRAY:
+                return new ArrayCsvRowStorage.Builder();
+            case COMPACT:
+                return new CompactCsvRowStorage.Builder();
+            case OFF_HEAP:
+                return new OffHeapCsvRowStorage.Builder();
+            default:
+                throw new IllegalArgumentException("Unexpected cell storage " + cellStorage);
+        }
+    }
+}
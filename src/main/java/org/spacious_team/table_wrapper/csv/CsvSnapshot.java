@@ -0,0 +1,231 @@
+/*
+ * Table Wrapper CSV Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.csv;
+
+import lombok.NoArgsConstructor;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Binary snapshot of parsed rows. Distinct cell values are stored once in string table,
+ * rows are stored as string ids of cells. File layout (big endian):
+ * <pre>
+ * int magic, int version, int key length, key UTF-8 bytes,
+ * int string count, int[string count + 1] string offsets, UTF-8 string bytes,
+ * int hash table size, int[hash table size] string ids (-1 for empty slot),
+ * int row count, int[row count + 1] row first cell offsets, int[cell count] cell string ids (-1 for null)
+ * </pre>
+ * Hash table is open addressing table with linear probing, slot of string is chosen by {@link #getSlot}.
+ * Key describes source of rows, it is used by {@link CsvSnapshotCache} to check snapshot relevance.
+ */
+@NoArgsConstructor(access = PRIVATE)
+final class CsvSnapshot {
+
+    static final int MAGIC = 0x43535653; // "CSVS"
+    static final int VERSION = 2;
+    static final int NULL_CELL_ID = -1;
+    static final int EMPTY_SLOT = -1;
+    private static final int MAX_STRING_COUNT = 1 << 28; // hash table of more strings exceeds max snapshot size
+
+    /**
+     * Writes snapshot to temporary file and moves it to target file, so incomplete snapshot is never read.
+     */
+    static void write(CsvRowStorage rows, Path file, String key) throws IOException {
+        Map<String, Integer> stringIds = new HashMap<>();
+        List<byte[]> strings = new ArrayList<>();
+        List<String> values = new ArrayList<>();
+        int[] rowOffsets = new int[rows.getLastRowNum() + 2];
+        int[] cellIds = new int[1024];
+        int cellCount = 0;
+        long stringBytes = 0;
+        String @Nullable [] row;
+        for (int rowNum = 0; (row = rows.getRow(rowNum)) != null; rowNum++) {
+            if (rowNum + 1 >= rowOffsets.length) { // streaming storage may be longer than known initially
+                rowOffsets = Arrays.copyOf(rowOffsets, rowOffsets.length + (rowOffsets.length >> 1) + 1);
+            }
+            for (@Nullable String cell : row) {
+                int id = NULL_CELL_ID;
+                if (cell != null) {
+                    @Nullable Integer knownId = stringIds.get(cell);
+                    if (knownId == null) {
+                        byte[] bytes = cell.getBytes(UTF_8);
+                        knownId = strings.size();
+                        stringIds.put(cell, knownId);
+                        strings.add(bytes);
+                        values.add(cell);
+                        stringBytes += bytes.length;
+                    }
+                    id = knownId;
+                }
+                if (cellCount == cellIds.length) {
+                    cellIds = Arrays.copyOf(cellIds, cellCount + (cellCount >> 1));
+                }
+                cellIds[cellCount++] = id;
+            }
+            rowOffsets[rowNum + 1] = cellCount;
+        }
+        if (strings.size() > MAX_STRING_COUNT) {
+            throw new IOException("Snapshot is too large: " + strings.size() + " distinct values");
+        }
+        int rowCount = rows.getLastRowNum() + 1;
+        byte[] keyBytes = key.getBytes(UTF_8);
+        int[] hashTable = createHashTable(values);
+        long size = 4L * Integer.BYTES + keyBytes.length +
+                (strings.size() + 1L) * Integer.BYTES + stringBytes +
+                (hashTable.length + 1L) * Integer.BYTES +
+                (rowCount + 1L) * Integer.BYTES + (long) cellCount * Integer.BYTES;
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Snapshot is too large: " + size + " bytes");
+        }
+        Path absoluteFile = file.toAbsolutePath();
+        @Nullable Path directory = absoluteFile.getParent();
+        @Nullable Path fileName = absoluteFile.getFileName();
+        if (directory == null || fileName == null) {
+            throw new IOException("Not a file path: " + file);
+        }
+        Path tempFile = Files.createTempFile(directory, fileName.toString(), ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeInt(keyBytes.length);
+                out.write(keyBytes);
+                out.writeInt(strings.size());
+                int stringOffset = 0;
+                out.writeInt(stringOffset);
+                for (byte[] string : strings) {
+                    stringOffset += string.length;
+                    out.writeInt(stringOffset);
+                }
+                for (byte[] string : strings) {
+                    out.write(string);
+                }
+                out.writeInt(hashTable.length);
+                for (int id : hashTable) {
+                    out.writeInt(id);
+                }
+                out.writeInt(rowCount);
+                for (int i = 0; i <= rowCount; i++) {
+                    out.writeInt(rowOffsets[i]);
+                }
+                for (int i = 0; i < cellCount; i++) {
+                    out.writeInt(cellIds[i]);
+                }
+            }
+            move(tempFile, file);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * @return hash table of string ids with at most 50% load factor
+     */
+    private static int[] createHashTable(List<String> values) {
+        int size = Integer.highestOneBit(Math.max(1, values.size()) * 2 - 1) << 1;
+        int[] hashTable = new int[size];
+        Arrays.fill(hashTable, EMPTY_SLOT);
+        for (int id = 0; id < values.size(); id++) {
+            int slot = getSlot(values.get(id), size);
+            while (hashTable[slot] != EMPTY_SLOT) {
+                slot = (slot + 1) & (size - 1);
+            }
+            hashTable[slot] = id;
+        }
+        return hashTable;
+    }
+
+    /**
+     * @param hashTableSize power of two
+     */
+    static int getSlot(String value, int hashTableSize) {
+        int hash = value.hashCode();
+        return (hash ^ (hash >>> 16)) & (hashTableSize - 1);
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Maps snapshot file to memory, rows are decoded on access.
+     *
+     * @throws FormatException if file is not a snapshot, is corrupted or has not supported version
+     * @throws IOException      if file can't be read
+     */
+    static SnapshotCsvRowStorage open(Path file) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < 3L * Integer.BYTES || size > Integer.MAX_VALUE) {
+                throw new FormatException("Not a CSV snapshot file: " + file);
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+        try {
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(Integer.BYTES) != VERSION) {
+                throw new FormatException("Not a CSV snapshot file or not supported version: " + file);
+            }
+            return new SnapshotCsvRowStorage(buffer);
+        } catch (IndexOutOfBoundsException | BufferUnderflowException | NegativeArraySizeException e) {
+            DirectByteBuffers.release(buffer);
+            throw new FormatException("Corrupted CSV snapshot file: " + file, e);
+        } catch (IOException | RuntimeException e) {
+            DirectByteBuffers.release(buffer);
+            throw e;
+        }
+    }
+
+    /**
+     * Thrown if file content is not a snapshot of supported version, such file can be deleted.
+     */
+    static class FormatException extends IOException {
+
+        FormatException(String message) {
+            super(message);
+        }
+
+        FormatException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Table Wrapper CSV Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.csv;
+
+import com.univocity.parsers.csv.CsvFormat;
+import com.univocity.parsers.csv.CsvParserSettings;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.UUID;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Persistent cache of parsed rows of CSV files. Rows are stored to binary snapshot files of cache directory
+ * and are reopened by memory mapping without parsing and format detection.
+ * Snapshot is used while source file path, size and modification time and parser settings are the same.
+ * Used by {@link CsvReportPage} if {@link CsvReportPageOptions#getSnapshotCache()} is set.
+ * Cache is safe for concurrent use by several threads and processes.
+ */
+public class CsvSnapshotCache {
+
+    private static final String SNAPSHOT_FILE_EXTENSION = ".csvsnapshot";
+    private final Path directory;
+
+    /**
+     * @param directory cache directory, created on first snapshot write
+     */
+    public CsvSnapshotCache(Path directory) {
+        this.directory = directory;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Deletes all snapshot files of cache directory.
+     */
+    public void clear() throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try (DirectoryStream<Path> snapshots = Files.newDirectoryStream(directory, "*" + SNAPSHOT_FILE_EXTENSION)) {
+            for (Path snapshot : snapshots) {
+                Files.deleteIfExists(snapshot);
+            }
+        }
+    }
+
+    /**
+     * Deletes snapshot if it is not a snapshot of supported version. Snapshot is not deleted
+     * on other read errors, which may be transient (for example, if file is locked by another process).
+     *
+     * @return rows of actual snapshot of file or null if snapshot is absent, outdated or can't be read
+     */
+    @Nullable CsvRowStorage get(Path source, Charset charset, CsvParserSettings settings,
+                                CsvReportPageOptions options) throws IOException {
+        if (!Files.isRegularFile(source)) {
+            return null;
+        }
+        String key = getKey(source, charset, settings, options);
+        Path snapshot = getSnapshotFile(source, charset, settings, options);
+        SnapshotCsvRowStorage rows;
+        try {
+            rows = CsvSnapshot.open(snapshot);
+        } catch (CsvSnapshot.FormatException e) {
+            deleteIfExists(snapshot);
+            return null;
+        } catch (IOException e) {
+            return null;
+        }
+        if (!rows.getKey().equals(key)) {
+            rows.close();
+            return null;
+        }
+        return rows;
+    }
+
+    private static void deleteIfExists(Path snapshot) {
+        try {
+            Files.deleteIfExists(snapshot);
+        } catch (IOException ignore) {
+            // snapshot is replaced by next put
+        }
+    }
+
+    /**
+     * Stores snapshot of rows parsed from file if file was not modified during parsing.
+     * Snapshot write {@link IOException} does not fail parsing, rows are not cached in that case
+     * and exception is reported by {@link CsvMetricsListener#onSnapshotWriteError}.
+     *
+     * @param key key of source file returned by {@link #getKey} before parsing
+     */
+    void put(Path source, Charset charset, CsvParserSettings settings, CsvReportPageOptions options,
+             String key, CsvRowStorage rows) {
+        try {
+            if (Files.isRegularFile(source) && key.equals(getKey(source, charset, settings, options))) {
+                Files.createDirectories(directory);
+                CsvSnapshot.write(rows, getSnapshotFile(source, charset, settings, options), key);
+            }
+        } catch (IOException e) {
+            options.getMetricsListener().onSnapshotWriteError(source, e);
+        }
+    }
+
+    /**
+     * @return key which is changed if source file or parsing settings are changed
+     */
+    String getKey(Path source, Charset charset, CsvParserSettings settings,
+                  CsvReportPageOptions options) throws IOException {
+        return source.toAbsolutePath().normalize() + "\n" +
+                Files.size(source) + "\n" +
+                Files.getLastModifiedTime(source).toMillis() + "\n" +
+                getSettingsKey(charset, settings, options);
+    }
+
+    private Path getSnapshotFile(Path source, Charset charset, CsvParserSettings settings,
+                                 CsvReportPageOptions options) {
+        String name = source.toAbsolutePath().normalize() + "\n" + getSettingsKey(charset, settings, options);
+        return directory.resolve(UUID.nameUUIDFromBytes(name.getBytes(UTF_8)) + SNAPSHOT_FILE_EXTENSION);
+    }
+
+    /**
+     * @return string of all settings affecting parsed rows
+     */
+    private static String getSettingsKey(Charset charset, CsvParserSettings settings, CsvReportPageOptions options) {
+        CsvFormat format = settings.getFormat();
+        return charset.name() + "|" +
+                format.getDelimiterString() + "|" +
+                format.getQuote() + "|" +
+                format.getQuoteEscape() + "|" +
+                format.getCharToEscapeQuoteEscaping() + "|" +
+                format.getComment() + "|" +
+                format.getLineSeparatorString() + "|" +
+                format.getNormalizedNewline() + "|" +
+                settings.isDelimiterDetectionEnabled() + "|" +
+                settings.isQuoteDetectionEnabled() + "|" +
+                settings.isLineSeparatorDetectionEnabled() + "|" +
+                settings.isHeaderExtractionEnabled() + "|" +
+                settings.getNumberOfRowsToSkip() + "|" +
+                settings.getNumberOfRecordsToRead() + "|" +
+                settings.getNullValue() + "|" +
+                settings.getEmptyValue() + "|" +
+                settings.getIgnoreLeadingWhitespaces() + "|" +
+                settings.getIgnoreTrailingWhitespaces() + "|" +
+                settings.getIgnoreLeadingWhitespacesInQuotes() + "|" +
+                settings.getIgnoreTrailingWhitespacesInQuotes() + "|" +
+                settings.getSkipEmptyLines() + "|" +
+                settings.isCommentProcessingEnabled() + "|" +
+                settings.getKeepQuotes() + "|" +
+                settings.isKeepEscapeSequences() + "|" +
+                settings.isEscapeUnquotedValues() + "|" +
+                settings.isNormalizeLineEndingsWithinQuotes() + "|" +
+                settings.getUnescapedQuoteHandling() + "|" +
+                settings.getMaxCharsPerColumn() + "|" +
+                settings.getMaxColumns() + "|" +
+                Arrays.toString(options.getSelectedColumns());
+    }
+}
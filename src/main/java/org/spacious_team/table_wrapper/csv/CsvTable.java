@@ -22,12 +22,23 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spacious_team.table_wrapper.api.AbstractReportPage;
 import org.spacious_team.table_wrapper.api.AbstractTable;
 import org.spacious_team.table_wrapper.api.CellDataAccessObject;
 import org.spacious_team.table_wrapper.api.Table;
 import org.spacious_team.table_wrapper.api.TableCellRange;
 import org.spacious_team.table_wrapper.api.TableHeaderColumn;
+import org.spacious_team.table_wrapper.api.TableRow;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.function.ObjIntConsumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 @ToString(callSuper = true)
 @EqualsAndHashCode(callSuper = true)
@@ -36,6 +47,7 @@ public class CsvTable extends AbstractTable<CsvTableRow, String> {
     @Setter
     @Getter
     private CellDataAccessObject<String, CsvTableRow> cellDataAccessObject = CsvCellDataAccessObject.INSTANCE;
+    private final int dataRowOffset; // first data row number relative to table range first row
 
     protected <T extends Enum<T> & TableHeaderColumn>
     CsvTable(AbstractReportPage<CsvTableRow> reportPage,
@@ -44,14 +56,152 @@ public class CsvTable extends AbstractTable<CsvTableRow, String> {
              Class<T> headerDescription,
              int headersRowCount) {
         super(reportPage, tableName, tableRange, headerDescription, headersRowCount);
+        this.dataRowOffset = 1 + headersRowCount; // table name and header rows
     }
 
     protected CsvTable(AbstractTable<CsvTableRow, String> table, int appendDataRowsToTop, int appendDataRowsToBottom) {
         super(table, appendDataRowsToTop, appendDataRowsToBottom);
+        this.dataRowOffset = (table instanceof CsvTable) ? ((CsvTable) table).dataRowOffset : getDataRowOffset(table);
+    }
+
+    /**
+     * @return data row offset of not CSV table found by its first data row
+     */
+    private static int getDataRowOffset(AbstractTable<CsvTableRow, String> table) {
+        TableCellRange range = table.getTableRange();
+        Iterator<TableRow> rows = table.iterator();
+        return rows.hasNext() ?
+                rows.next().getRowNum() - range.getFirstRow() :
+                range.getLastRow() - range.getFirstRow() + 1; // table has no data rows
     }
 
     @Override
     public Table subTable(int topRows, int bottomRows) {
         return new CsvTable(this, topRows, bottomRows);
     }
+
+    /**
+     * @return table with data rows from {@code from} (inclusive) to {@code to} (exclusive) data row index
+     * and the same cell data access object
+     */
+    CsvTable subTable(int from, int to, int dataRowCount) {
+        CsvTable subTable = new CsvTable(this, -from, to - dataRowCount);
+        subTable.setCellDataAccessObject(cellDataAccessObject);
+        return subTable;
+    }
+
+    /**
+     * Returns spliterator which splits data rows evenly, so {@code stream().parallel()} processes
+     * rows by several threads. Row object passed to consumer is reused for next rows of the same thread,
+     * so values should be extracted before next row, as for {@link #iterator()}.
+     * Size is computed from table range, rows are not read.
+     */
+    @Override
+    public Spliterator<TableRow> spliterator() {
+        int dataRowCount = getDataRowCount(getFirstDataRowNum());
+        return new CsvTableSpliterator(this, dataRowCount, 0, dataRowCount);
+    }
+
+    /**
+     * Returns values of column cells of all data rows, values are parsed by {@link #getCellDataAccessObject()}.
+     * Cells are read from report page without creating row and cell objects.
+     *
+     * @param emptyCells bitmap which is cleared and filled by indexes of null or blank cells, value is 0 for them
+     * @return values in order of data rows, all cells are empty if column is not found in table
+     */
+    public long[] getLongColumnValues(TableHeaderColumn column, BitSet emptyCells) {
+        CellDataAccessObject<String, CsvTableRow> dao = getCellDataAccessObject();
+        int firstDataRow = getFirstDataRowNum();
+        long[] values = new long[getDataRowCount(firstDataRow)];
+        readColumn(column, firstDataRow, values.length, emptyCells,
+                (value, i) -> values[i] = dao.getLongValue(value));
+        return values;
+    }
+
+    /**
+     * Same as {@link #getLongColumnValues(TableHeaderColumn, BitSet)} for double values.
+     */
+    public double[] getDoubleColumnValues(TableHeaderColumn column, BitSet emptyCells) {
+        CellDataAccessObject<String, CsvTableRow> dao = getCellDataAccessObject();
+        int firstDataRow = getFirstDataRowNum();
+        double[] values = new double[getDataRowCount(firstDataRow)];
+        readColumn(column, firstDataRow, values.length, emptyCells,
+                (value, i) -> values[i] = dao.getDoubleValue(value));
+        return values;
+    }
+
+    /**
+     * Same as {@link #getLongColumnValues(TableHeaderColumn, BitSet)} for decimal values, value is null for empty cell.
+     */
+    public @Nullable BigDecimal[] getBigDecimalColumnValues(TableHeaderColumn column, BitSet emptyCells) {
+        CellDataAccessObject<String, CsvTableRow> dao = getCellDataAccessObject();
+        int firstDataRow = getFirstDataRowNum();
+        @Nullable BigDecimal[] values = new BigDecimal[getDataRowCount(firstDataRow)];
+        readColumn(column, firstDataRow, values.length, emptyCells,
+                (value, i) -> values[i] = dao.getBigDecimalValue(value));
+        return values;
+    }
+
+    /**
+     * Same as {@link #getLongColumnValues(TableHeaderColumn, BitSet)} for instant values, value is null for empty cell.
+     */
+    public @Nullable Instant[] getInstantColumnValues(TableHeaderColumn column, BitSet emptyCells) {
+        CellDataAccessObject<String, CsvTableRow> dao = getCellDataAccessObject();
+        int firstDataRow = getFirstDataRowNum();
+        @Nullable Instant[] values = new Instant[getDataRowCount(firstDataRow)];
+        readColumn(column, firstDataRow, values.length, emptyCells,
+                (value, i) -> values[i] = dao.getInstantValue(value));
+        return values;
+    }
+
+    /**
+     * @return row number of first data row computed from table range or -1 if table range is empty
+     */
+    private int getFirstDataRowNum() {
+        TableCellRange range = getTableRange();
+        return (range.getFirstRow() < 0) ? -1 : range.getFirstRow() + dataRowOffset;
+    }
+
+    private int getDataRowCount(int firstDataRow) {
+        return (firstDataRow == -1) ? 0 : Math.max(0, getTableRange().getLastRow() - firstDataRow + 1);
+    }
+
+    /**
+     * Passes not blank cell values to consumer with index of data row.
+     */
+    private void readColumn(TableHeaderColumn column, int firstDataRow, int dataRowCount, BitSet emptyCells,
+                            ObjIntConsumer<String> consumer) {
+        emptyCells.clear();
+        @Nullable Integer columnIndex = getHeaderDescription().get(column);
+        if (columnIndex == null) {
+            emptyCells.set(0, dataRowCount);
+            return;
+        }
+        AbstractReportPage<CsvTableRow> reportPage = getReportPage();
+        @Nullable CsvReportPage csvReportPage =
+                (reportPage instanceof CsvReportPage) ? (CsvReportPage) reportPage : null;
+        for (int i = 0; i < dataRowCount; i++) {
+            int rowNum = firstDataRow + i;
+            @Nullable String value;
+            if (csvReportPage != null) {
+                value = csvReportPage.getCellValue(rowNum, columnIndex);
+            } else {
+                @Nullable CsvTableRow row = reportPage.getRow(rowNum);
+                value = (row == null) ? null : row.getCellValue(columnIndex);
+            }
+            if (value == null || value.isBlank()) {
+                emptyCells.set(i);
+            } else {
+                consumer.accept(value, i);
+            }
+        }
+    }
+
+    /**
+     * @return sequential stream of data rows, call {@link Stream#parallel()} for parallel processing
+     * @see #spliterator()
+     */
+    public Stream<TableRow> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
 }
@@ -0,0 +1,60 @@
+/*
+ * Table Wrapper CSV Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.csv;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.spacious_team.table_wrapper.api.TableHeaderColumn;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Describes table to be created by {@link CsvTableFactory#createAll(org.spacious_team.table_wrapper.api.ReportPage, java.util.List)}.
+ * Table starts with the row containing cell prefixed by table name and ends with the row containing cell
+ * prefixed by last row string, as {@link org.spacious_team.table_wrapper.api.ReportPage#create(String, String, Class)}
+ * finds table. Table name and last row string should not be blank.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = PRIVATE)
+public class CsvTableDescriptor<T extends Enum<T> & TableHeaderColumn> {
+
+    private final String tableName;
+    private final String lastRowString;
+    private final Class<T> headerDescription;
+    private final int headersRowCount;
+
+    public static <T extends Enum<T> & TableHeaderColumn>
+    CsvTableDescriptor<T> of(String tableName, String lastRowString, Class<T> headerDescription) {
+        return of(tableName, lastRowString, headerDescription, 1);
+    }
+
+    public static <T extends Enum<T> & TableHeaderColumn>
+    CsvTableDescriptor<T> of(String tableName, String lastRowString, Class<T> headerDescription, int headersRowCount) {
+        if (tableName.trim().isEmpty()) {
+            throw new IllegalArgumentException("Table name is blank: '" + tableName + "'");
+        } else if (lastRowString.trim().isEmpty()) {
+            throw new IllegalArgumentException("Last row string is blank: '" + lastRowString + "'");
+        }
+        return new CsvTableDescriptor<>(tableName, lastRowString, headerDescription, headersRowCount);
+    }
+}
@@ -25,12 +25,25 @@ import org.spacious_team.table_wrapper.api.Table;
 import org.spacious_team.table_wrapper.api.TableCellRange;
 import org.spacious_team.table_wrapper.api.TableHeaderColumn;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @SuppressWarnings("unused")
 @ToString(callSuper = true)
 public class CsvTableFactory extends AbstractTableFactory<CsvReportPage> {
 
+    private final CsvMetricsListener metricsListener;
+
     public CsvTableFactory() {
+        this(CsvMetricsListener.NOOP);
+    }
+
+    /**
+     * @param metricsListener receives table creation metrics
+     */
+    public CsvTableFactory(CsvMetricsListener metricsListener) {
         super(CsvReportPage.class);
+        this.metricsListener = metricsListener;
     }
 
     @Override
@@ -40,11 +53,41 @@ public class CsvTableFactory extends AbstractTableFactory<CsvReportPage> {
                  TableCellRange tableRange,
                  Class<T> headerDescription,
                  int headersRowCount) {
-        return new CsvTable(
+        long startNanos = (metricsListener != CsvMetricsListener.NOOP) ? System.nanoTime() : 0;
+        CsvTable table = new CsvTable(
                 cast(reportPage),
                 tableName,
                 tableRange,
                 headerDescription,
                 headersRowCount);
+        if (metricsListener != CsvMetricsListener.NOOP) {
+            metricsListener.onTableCreate(tableName, System.nanoTime() - startNanos);
+        }
+        return table;
+    }
+
+    /**
+     * Creates tables which ranges are found by one scan of report page rows instead of a scan per table.
+     *
+     * @return tables in order of descriptors, table is empty if not found
+     */
+    public List<Table> createAll(ReportPage reportPage, List<? extends CsvTableDescriptor<?>> tableDescriptors) {
+        CsvReportPage csvReportPage = cast(reportPage);
+        List<TableCellRange> tableRanges = csvReportPage.getTableCellRanges(tableDescriptors);
+        List<Table> tables = new ArrayList<>(tableDescriptors.size());
+        for (int i = 0; i < tableDescriptors.size(); i++) {
+            tables.add(create(csvReportPage, tableDescriptors.get(i), tableRanges.get(i)));
+        }
+        return tables;
+    }
+
+    private <T extends Enum<T> & TableHeaderColumn>
+    Table create(CsvReportPage reportPage, CsvTableDescriptor<T> tableDescriptor, TableCellRange tableRange) {
+        return create(
+                reportPage,
+                tableDescriptor.getTableName(),
+                tableRange,
+                tableDescriptor.getHeaderDescription(),
+                tableDescriptor.getHeadersRowCount());
     }
 }
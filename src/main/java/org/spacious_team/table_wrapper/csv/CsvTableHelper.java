@@ -23,7 +23,9 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spacious_team.table_wrapper.api.TableCellAddress;
 
 import java.util.Objects;
+import java.util.function.IntFunction;
 import java.util.function.Predicate;
+import java.util.stream.IntStream;
 
 import static lombok.AccessLevel.PRIVATE;
 import static org.spacious_team.table_wrapper.api.TableCellAddress.NOT_FOUND;
@@ -51,6 +53,60 @@ final class CsvTableHelper {
         return NOT_FOUND;
     }
 
+    /**
+     * Same as {@link #find(String[][], int, int, int, int, Predicate)}, but rows are tested concurrently
+     * if row range contains at least parallelThreshold rows. Predicate should be thread safe.
+     */
+    static TableCellAddress find(String[][] table, int startRow, int endRow, int startColumn, int endColumn,
+                                 Predicate<@Nullable String> predicate, int parallelThreshold) {
+        int start = Math.max(0, startRow);
+        int end = Math.min(endRow, table.length);
+        if (end - start < parallelThreshold) {
+            return find(table, start, end, startColumn, endColumn, predicate);
+        }
+        return parallelFind(start, end, rowNum -> find(table[rowNum], rowNum, startColumn, endColumn, predicate));
+    }
+
+    /**
+     * Tests rows by common fork join pool and returns address found in lowest row,
+     * tests of rows after found one are cancelled.
+     *
+     * @param rowFinder returns found address in row or {@link TableCellAddress#NOT_FOUND}
+     */
+    static TableCellAddress parallelFind(int startRow, int endRow, IntFunction<TableCellAddress> rowFinder) {
+        return IntStream.range(startRow, endRow)
+                .parallel()
+                .mapToObj(rowFinder)
+                .filter(address -> address != NOT_FOUND)
+                .findFirst()
+                .orElse(NOT_FOUND);
+    }
+
+    static TableCellAddress find(CsvRowStorage table, @Nullable Object expected,
+                                 int startRow, int endRow,
+                                 int startColumn, int endColumn) {
+        return find(table, startRow, endRow, startColumn, endColumn, equalsPredicate(expected));
+    }
+
+    /**
+     * Reads storage rows one by one, so rows after found one are not requested from storage.
+     */
+    static TableCellAddress find(CsvRowStorage table, int startRow, int endRow, int startColumn, int endColumn,
+                                 Predicate<@Nullable String> predicate) {
+        startRow = Math.max(0, startRow);
+        for (int rowNum = startRow; rowNum < endRow; rowNum++) {
+            String @Nullable [] row = table.getRow(rowNum);
+            if (row == null) {
+                break;
+            }
+            TableCellAddress address = find(row, rowNum, startColumn, endColumn, predicate);
+            if (address != NOT_FOUND) {
+                return address;
+            }
+        }
+        return NOT_FOUND;
+    }
+
     static TableCellAddress find(String[] row, int rowNum, int startColumn, int endColumn,
                                  Predicate<@Nullable String> predicate) {
         startColumn = Math.max(0, startColumn);
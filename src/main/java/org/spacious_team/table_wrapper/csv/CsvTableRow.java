@@ -38,7 +38,11 @@ public class CsvTableRow extends AbstractReportPageRow {
     private final String[] row;
     @Getter
     private final int rowNum;
-    private final TableCell[] cellsCache;
+    /**
+     * Allocated on first cell access. Row may be shared by threads through page row cache, volatile field
+     * safely publishes the array, cells are immutable, so racing threads may only create the same cell twice.
+     */
+    private volatile @Nullable TableCell @Nullable [] cellsCache;
 
     public static CsvTableRow of(String[] row, int rowNum) {
         return new CsvTableRow(row, rowNum);
@@ -47,7 +51,6 @@ public class CsvTableRow extends AbstractReportPageRow {
     private CsvTableRow(String[] row, int rowNum) {
         this.row = row;
         this.rowNum = rowNum;
-        this.cellsCache = new TableCell[row.length];
     }
 
     @Override
@@ -55,10 +58,15 @@ public class CsvTableRow extends AbstractReportPageRow {
         if (i < 0 || i >= row.length) {
             return null;
         }
-        TableCell cell = cellsCache[i];
+        @Nullable TableCell @Nullable [] cache = cellsCache;
+        if (cache == null) {
+            cache = new TableCell[row.length];
+            cellsCache = cache;
+        }
+        @Nullable TableCell cell = cache[i];
         if (cell == null) {
             cell = CsvTableCell.of(row, i);
-            cellsCache[i] = cell;
+            cache[i] = cell;
         }
         return cell;
     }
@@ -0,0 +1,108 @@
+/*
+ * Table Wrapper CSV Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.csv;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spacious_team.table_wrapper.api.TableRow;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Splits table data rows to halves by row numbers, so rows are evenly split between threads.
+ * Each split iterates rows of own sub table, which has data rows of the split only and reads rows from report
+ * page by random access. Row object is reused by split as by table iterator, consumer should extract values
+ * from row before next row is passed.
+ */
+class CsvTableSpliterator implements Spliterator<TableRow> {
+
+    private static final int CHARACTERISTICS = ORDERED | SIZED | SUBSIZED | NONNULL;
+    private final CsvTable table;
+    private final int dataRowCount;
+    private int from;
+    private final int to;
+    private @Nullable Iterator<TableRow> iterator = null; // created on first advance
+
+    /**
+     * @param from first data row index (inclusive)
+     * @param to   last data row index (exclusive)
+     */
+    CsvTableSpliterator(CsvTable table, int dataRowCount, int from, int to) {
+        this.table = table;
+        this.dataRowCount = dataRowCount;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super TableRow> action) {
+        if (from < to) {
+            Iterator<TableRow> rows = getIterator();
+            if (rows.hasNext()) {
+                from++;
+                action.accept(rows.next());
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super TableRow> action) {
+        if (from >= to) {
+            return;
+        }
+        Iterator<TableRow> rows = getIterator();
+        while (from < to && rows.hasNext()) {
+            from++;
+            action.accept(rows.next());
+        }
+    }
+
+    private Iterator<TableRow> getIterator() {
+        @Nullable Iterator<TableRow> rows = iterator;
+        if (rows == null) {
+            rows = table.subTable(from, to, dataRowCount).iterator();
+            iterator = rows;
+        }
+        return rows;
+    }
+
+    @Override
+    public @Nullable Spliterator<TableRow> trySplit() {
+        int middle = (from + to) >>> 1;
+        if (iterator != null || middle <= from) {
+            return null;
+        }
+        Spliterator<TableRow> prefix = new CsvTableSpliterator(table, dataRowCount, from, middle);
+        from = middle;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return to - from;
+    }
+
+    @Override
+    public int characteristics() {
+        return CHARACTERISTICS;
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Table Wrapper CSV Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.csv;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spacious_team.table_wrapper.api.TableCellAddress;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.spacious_team.table_wrapper.api.TableCellAddress.NOT_FOUND;
+
+/**
+ * Maps not null cell value to ascending (row, column) ordered addresses of cells with this value.
+ * Address is packed to long as {@code row << 32 | column}.
+ */
+class CsvValueIndex {
+
+    private final Map<String, long[]> addresses;
+
+    private CsvValueIndex(Map<String, long[]> addresses) {
+        this.addresses = addresses;
+    }
+
+    static CsvValueIndex of(CsvRowStorage rows) {
+        Map<String, AddressList> index = new HashMap<>();
+        String @Nullable [] row;
+        for (int rowNum = 0; (row = rows.getRow(rowNum)) != null; rowNum++) {
+            for (int column = 0; column < row.length; column++) {
+                @Nullable String cell = row[column];
+                if (cell != null) {
+                    index.computeIfAbsent(cell, k -> new AddressList())
+                            .add(pack(rowNum, column));
+                }
+            }
+        }
+        Map<String, long[]> addresses = new HashMap<>((int) (index.size() / 0.75f) + 1);
+        index.forEach((value, list) -> addresses.put(value, list.toArray()));
+        return new CsvValueIndex(addresses);
+    }
+
+    /**
+     * Same as {@link CsvTableHelper#find(String[][], Object, int, int, int, int)} for not null value.
+     */
+    TableCellAddress find(String value, int startRow, int endRow, int startColumn, int endColumn) {
+        long @Nullable [] valueAddresses = addresses.get(value);
+        if (valueAddresses == null) {
+            return NOT_FOUND;
+        }
+        long address = findFirst(valueAddresses, startRow, endRow, startColumn, endColumn);
+        return toTableCellAddress(address);
+    }
+
+    /**
+     * @param addresses ascending packed addresses
+     * @return first packed address in range or -1
+     */
+    static long findFirst(long[] addresses, int startRow, int endRow, int startColumn, int endColumn) {
+        int i = Arrays.binarySearch(addresses, pack(Math.max(0, startRow), 0));
+        for (i = (i < 0) ? (-i - 1) : i; i < addresses.length; i++) {
+            long address = addresses[i];
+            if (getRow(address) >= endRow) {
+                break;
+            }
+            int column = getColumn(address);
+            if (column >= startColumn && column < endColumn) {
+                return address;
+            }
+        }
+        return -1;
+    }
+
+    static long pack(int row, int column) {
+        return ((long) row << 32) | column;
+    }
+
+    static int getRow(long address) {
+        return (int) (address >>> 32);
+    }
+
+    static int getColumn(long address) {
+        return (int) address;
+    }
+
+    static TableCellAddress toTableCellAddress(long address) {
+        return (address == -1) ? NOT_FOUND : TableCellAddress.of(getRow(address), getColumn(address));
+    }
+
+    static class AddressList {
+        private long[] values = new long[1];
+        private int size = 0;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        long[] toArray() {
+            return (size == values.length) ? values : Arrays.copyOf(values, size);
+        }
+    }
+}
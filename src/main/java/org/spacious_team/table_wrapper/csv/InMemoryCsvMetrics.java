@@ -0,0 +1,146 @@
+/*
+ * Table Wrapper CSV Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.spacious_team.table_wrapper.csv;
+
+import lombok.ToString;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Accumulates metrics in memory, thread safe. Values may be periodically read and published to monitoring system.
+ */
+@ToString
+public class InMemoryCsvMetrics implements CsvMetricsListener {
+
+    private final LongAdder parseCount = new LongAdder();
+    private final LongAdder parsedBytes = new LongAdder();
+    private final LongAdder parsedRows = new LongAdder();
+    private final LongAdder parsedCells = new LongAdder();
+    private final LongAdder parseNanos = new LongAdder();
+    private final Map<FindMethod, FindMetrics> findMetrics = new EnumMap<>(FindMethod.class);
+    private final LongAdder tableCreateCount = new LongAdder();
+    private final LongAdder tableCreateNanos = new LongAdder();
+    private final LongAdder snapshotWriteErrorCount = new LongAdder();
+
+    public InMemoryCsvMetrics() {
+        for (FindMethod method : FindMethod.values()) {
+            findMetrics.put(method, new FindMetrics());
+        }
+    }
+
+    @Override
+    public void onParse(long bytes, int rows, long cells, long durationNanos) {
+        parseCount.increment();
+        if (bytes > 0) {
+            parsedBytes.add(bytes);
+        }
+        parsedRows.add(rows);
+        parsedCells.add(cells);
+        parseNanos.add(durationNanos);
+    }
+
+    @Override
+    public void onFind(FindMethod method, int scannedRows, boolean found, long durationNanos) {
+        FindMetrics metrics = getFindMetrics(method);
+        metrics.count.increment();
+        if (found) {
+            metrics.foundCount.increment();
+        }
+        metrics.scannedRows.add(scannedRows);
+        metrics.nanos.add(durationNanos);
+    }
+
+    @Override
+    public void onTableCreate(String tableName, long durationNanos) {
+        tableCreateCount.increment();
+        tableCreateNanos.add(durationNanos);
+    }
+
+    @Override
+    public void onSnapshotWriteError(Path source, IOException exception) {
+        snapshotWriteErrorCount.increment();
+    }
+
+    public long getParseCount() {
+        return parseCount.sum();
+    }
+
+    /**
+     * @return read bytes, unknown input sizes are not counted
+     */
+    public long getParsedBytes() {
+        return parsedBytes.sum();
+    }
+
+    public long getParsedRows() {
+        return parsedRows.sum();
+    }
+
+    public long getParsedCells() {
+        return parsedCells.sum();
+    }
+
+    public long getParseNanos() {
+        return parseNanos.sum();
+    }
+
+    public long getFindCount(FindMethod method) {
+        return getFindMetrics(method).count.sum();
+    }
+
+    public long getFoundCount(FindMethod method) {
+        return getFindMetrics(method).foundCount.sum();
+    }
+
+    public long getScannedRows(FindMethod method) {
+        return getFindMetrics(method).scannedRows.sum();
+    }
+
+    public long getFindNanos(FindMethod method) {
+        return getFindMetrics(method).nanos.sum();
+    }
+
+    public long getTableCreateCount() {
+        return tableCreateCount.sum();
+    }
+
+    public long getTableCreateNanos() {
+        return tableCreateNanos.sum();
+    }
+
+    public long getSnapshotWriteErrorCount() {
+        return snapshotWriteErrorCount.sum();
+    }
+
+    private FindMetrics getFindMetrics(FindMethod method) {
+        //noinspection ConstantConditions
+        return findMetrics.get(method);
+    }
+
+    @ToString
+    private static class FindMetrics {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder foundCount = new LongAdder();
+        private final LongAdder scannedRows = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+    }
+}
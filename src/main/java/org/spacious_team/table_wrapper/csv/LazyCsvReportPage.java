@@ -0,0 +1,75 @@
+/*
+ * Table Wrapper CSV Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.csv;
+
+import com.univocity.parsers.csv.CsvParserSettings;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Report page which parses input on demand and keeps all parsed rows.
+ * <p>
+ * {@link #find} and {@link #getRow} parse input until requested row only, search methods without end row
+ * are not bounded by {@link #getLastRowNum()}, so table creation stops parsing when table last row is found
+ * and the rest of input is left unread. Unlike {@link StreamingCsvReportPage}
+ * rows are never evicted and may be accessed in any order. {@link #getLastRowNum()}, value and prefix indexes
+ * read input until the end. Page should be closed after use to release input.
+ */
+public class LazyCsvReportPage extends StreamingCsvReportPage {
+
+    private static final int UNBOUNDED_WINDOW_SIZE = Integer.MAX_VALUE;
+
+    /**
+     * Field and line delimiter detected automatically. UTF-8 encoded file expected.
+     */
+    public LazyCsvReportPage(Path path) throws IOException {
+        this(path, UTF_8, getDefaultCsvParserSettings());
+    }
+
+    /**
+     * @implSpec Closes file on end of input or on {@link #close()}
+     */
+    public LazyCsvReportPage(Path path, Charset charset, CsvParserSettings csvParserSettings) throws IOException {
+        super(path, charset, csvParserSettings, UNBOUNDED_WINDOW_SIZE);
+    }
+
+    /**
+     * Field and line delimiter detected automatically. UTF-8 encoded file expected.
+     *
+     * @implSpec Does not close inputStream
+     */
+    public LazyCsvReportPage(InputStream inputStream) throws IOException {
+        this(inputStream, UTF_8, getDefaultCsvParserSettings());
+    }
+
+    /**
+     * Input stream should not be used by caller until page is closed.
+     *
+     * @implSpec Does not close inputStream
+     */
+    public LazyCsvReportPage(InputStream inputStream, Charset charset, CsvParserSettings csvParserSettings)
+            throws IOException {
+        super(inputStream, charset, csvParserSettings, UNBOUNDED_WINDOW_SIZE);
+    }
+}
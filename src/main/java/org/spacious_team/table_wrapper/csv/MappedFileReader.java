@@ -0,0 +1,179 @@
+/*
+ * Table Wrapper CSV Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.csv;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Decodes file content directly from memory mapped file without copying bytes to heap.
+ * Files larger than chunk size (including files over 2 GB) are mapped chunk by chunk.
+ * Malformed input is replaced as {@link java.io.InputStreamReader} does.
+ * Read and close are guarded by reader lock, so reader may be closed while other thread reads it
+ * (as univocity parser does by default), mapped buffer is never unmapped during read.
+ */
+class MappedFileReader extends Reader {
+
+    static final long DEFAULT_CHUNK_SIZE = 256L * 1024 * 1024;
+    private static final int MIN_CHUNK_SIZE = 16; // should fit any partially decoded char
+    private final FileChannel channel;
+    private final long startPosition;
+    private final long endPosition;
+    private final long chunkSize;
+    private final CharsetDecoder decoder;
+    private @Nullable MappedByteBuffer buffer;
+    private long bufferFilePosition;
+    private boolean endOfInput = false;
+    private boolean closed = false;
+
+    MappedFileReader(Path path, Charset charset) throws IOException {
+        this(path, charset, DEFAULT_CHUNK_SIZE);
+    }
+
+    MappedFileReader(Path path, Charset charset, long chunkSize) throws IOException {
+        this(path, charset, 0, -1, chunkSize);
+    }
+
+    /**
+     * Reads file region.
+     *
+     * @param endPosition region end position (exclusive) or -1 for end of file
+     */
+    MappedFileReader(Path path, Charset charset, long startPosition, long endPosition, long chunkSize)
+            throws IOException {
+        this(open(path, startPosition, endPosition, chunkSize), charset, startPosition, endPosition, chunkSize);
+    }
+
+    /**
+     * Reads whole file from already opened channel.
+     *
+     * @implSpec Closes channel on close or exception
+     */
+    MappedFileReader(FileChannel channel, Charset charset) throws IOException {
+        this(channel, charset, 0, -1, DEFAULT_CHUNK_SIZE);
+    }
+
+    private MappedFileReader(FileChannel channel, Charset charset, long startPosition, long endPosition, long chunkSize)
+            throws IOException {
+        this.channel = channel;
+        this.startPosition = startPosition;
+        this.chunkSize = chunkSize;
+        try {
+            checkArguments(startPosition, endPosition, chunkSize);
+            this.decoder = charset.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+            this.endPosition = (endPosition == -1) ? channel.size() : Math.min(endPosition, channel.size());
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private static FileChannel open(Path path, long startPosition, long endPosition, long chunkSize)
+            throws IOException {
+        checkArguments(startPosition, endPosition, chunkSize);
+        return FileChannel.open(path, StandardOpenOption.READ);
+    }
+
+    private static void checkArguments(long startPosition, long endPosition, long chunkSize) {
+        if (chunkSize < MIN_CHUNK_SIZE || chunkSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Wrong chunk size " + chunkSize);
+        } else if (startPosition < 0 || (endPosition != -1 && endPosition < startPosition)) {
+            throw new IllegalArgumentException("Wrong file region [" + startPosition + ", " + endPosition + ")");
+        }
+    }
+
+    private MappedByteBuffer map(long filePosition) throws IOException {
+        releaseBuffer();
+        long size = Math.max(0, Math.min(chunkSize, endPosition - filePosition));
+        MappedByteBuffer mappedBuffer = channel.map(FileChannel.MapMode.READ_ONLY, filePosition, size);
+        this.buffer = mappedBuffer;
+        this.bufferFilePosition = filePosition;
+        return mappedBuffer;
+    }
+
+    @Override
+    public int read(char[] cbuf, int off, int len) throws IOException {
+        synchronized (lock) {
+            return readLocked(cbuf, off, len);
+        }
+    }
+
+    private int readLocked(char[] cbuf, int off, int len) throws IOException {
+        if (closed) {
+            throw new IOException("Reader closed");
+        } else if (len == 0) {
+            return 0;
+        }
+        @Nullable MappedByteBuffer in = buffer;
+        if (in == null) {
+            in = map(startPosition);
+        }
+        CharBuffer out = CharBuffer.wrap(cbuf, off, len);
+        while (out.hasRemaining() && !endOfInput) {
+            boolean isLastChunk = (bufferFilePosition + in.limit() >= endPosition);
+            CoderResult result = decoder.decode(in, out, isLastChunk);
+            if (result.isOverflow()) {
+                break;
+            } else if (isLastChunk) {
+                if (decoder.flush(out).isOverflow()) {
+                    break;
+                }
+                endOfInput = true;
+            } else {
+                // remap from first not decoded byte, it may be a part of multibyte char
+                in = map(bufferFilePosition + in.position());
+            }
+        }
+        int count = out.position() - off;
+        return (count == 0 && endOfInput) ? -1 : count;
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            releaseBuffer();
+            channel.close();
+        }
+    }
+
+    private void releaseBuffer() {
+        @Nullable MappedByteBuffer mappedBuffer = buffer;
+        if (mappedBuffer != null) {
+            buffer = null;
+            DirectByteBuffers.release(mappedBuffer);
+        }
+    }
+}
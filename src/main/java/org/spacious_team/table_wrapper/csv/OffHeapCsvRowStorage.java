@@ -0,0 +1,402 @@
+/*
+ * Table Wrapper CSV Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.csv;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spacious_team.table_wrapper.api.TableCellAddress;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+import static org.spacious_team.table_wrapper.api.TableCellAddress.NOT_FOUND;
+
+/**
+ * Keeps text of all cells and cell end offsets in direct byte buffer segments out of heap,
+ * each row is stored contiguously in one char segment and one cell ends segment.
+ * Only row addresses are kept on heap in primitive arrays, so GC does not scan cells.
+ * Cell ends are relative to row start, null cell is marked by sign bit. Segment byte size is limited by int,
+ * so row can't have more than {@link #MAX_SEGMENT_SIZE} chars or cells.
+ * Strings are created on row or cell access only. Memory is freed by {@link #close()}
+ * or by GC if storage is not closed, storage can't be used after close.
+ * Memory is accessed under read lock and freed under write lock, so close waits for running reads and searches
+ * (including concurrent search tasks, which are completed before search returns).
+ */
+class OffHeapCsvRowStorage implements CsvRowStorage {
+
+    static final int DEFAULT_SEGMENT_SIZE = 1 << 20; // chars or cell ends
+    static final int MAX_SEGMENT_SIZE = Integer.MAX_VALUE / Integer.BYTES; // segment byte offsets don't overflow int
+    private static final int NULL_CELL_FLAG = 0x80000000;
+    private final ByteBuffer[] charSegments;
+    private final ByteBuffer[] cellEndSegments;
+    private final long[] rowCharAddresses;
+    private final long[] rowCellEndAddresses;
+    private final int[] rowLengths;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private boolean closed = false; // guarded by lock
+
+    private OffHeapCsvRowStorage(ByteBuffer[] charSegments, ByteBuffer[] cellEndSegments,
+                                 long[] rowCharAddresses, long[] rowCellEndAddresses, int[] rowLengths) {
+        this.charSegments = charSegments;
+        this.cellEndSegments = cellEndSegments;
+        this.rowCharAddresses = rowCharAddresses;
+        this.rowCellEndAddresses = rowCellEndAddresses;
+        this.rowLengths = rowLengths;
+    }
+
+    private static long getAddress(int segment, int offset) {
+        return ((long) segment << 32) | offset;
+    }
+
+    private static int getSegment(long address) {
+        return (int) (address >>> 32);
+    }
+
+    private static int getOffset(long address) {
+        return (int) address;
+    }
+
+    private static ByteBuffer allocate(int bytes) {
+        return ByteBuffer.allocateDirect(bytes).order(ByteOrder.nativeOrder());
+    }
+
+    @Override
+    @SuppressWarnings("nullness") // row may contain nulls as parser returned row does
+    public String @Nullable [] getRow(int rowNum) {
+        if (rowNum < 0 || rowNum >= rowLengths.length) {
+            return null;
+        }
+        Lock readLock = lockNotClosed();
+        try {
+            String[] row = new String[rowLengths[rowNum]];
+            for (int i = 0; i < row.length; i++) {
+                row[i] = readCellValue(rowNum, i);
+            }
+            return row;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Creates string of requested cell only.
+     */
+    @Override
+    public @Nullable String getCellValue(int rowNum, int column) {
+        if (rowNum < 0 || rowNum >= rowLengths.length || column < 0 || column >= rowLengths[rowNum]) {
+            return null;
+        }
+        Lock readLock = lockNotClosed();
+        try {
+            return readCellValue(rowNum, column);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public int getLastRowNum() {
+        return rowLengths.length - 1;
+    }
+
+    @Override
+    public long getCellCount() {
+        long cells = 0;
+        for (int rowLength : rowLengths) {
+            cells += rowLength;
+        }
+        return cells;
+    }
+
+    /**
+     * @return acquired read lock, should be unlocked after memory access
+     */
+    private Lock lockNotClosed() {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        if (closed) {
+            readLock.unlock();
+            throw new IllegalStateException("Off-heap row storage is closed");
+        }
+        return readLock;
+    }
+
+    private int getCellEnd(int rowNum, int column) {
+        long address = rowCellEndAddresses[rowNum];
+        return cellEndSegments[getSegment(address)].getInt((getOffset(address) + column) * Integer.BYTES);
+    }
+
+    private int getCellStart(int rowNum, int column) {
+        return (column == 0) ? 0 : (getCellEnd(rowNum, column - 1) & ~NULL_CELL_FLAG);
+    }
+
+    private @Nullable String readCellValue(int rowNum, int column) {
+        int end = getCellEnd(rowNum, column);
+        if ((end & NULL_CELL_FLAG) != 0) {
+            return null;
+        }
+        int start = getCellStart(rowNum, column);
+        long address = rowCharAddresses[rowNum];
+        ByteBuffer segment = charSegments[getSegment(address)];
+        int offset = getOffset(address) + start;
+        char[] chars = new char[end - start];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = segment.getChar((offset + i) * Character.BYTES);
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Compares cell chars with expected value without creating strings.
+     */
+    @Override
+    public TableCellAddress find(@Nullable Object expected, int startRow, int endRow, int startColumn, int endColumn) {
+        @Nullable String expectedString = (expected == null) ? null : expected.toString();
+        startRow = Math.max(0, startRow);
+        endRow = Math.min(endRow, rowLengths.length);
+        startColumn = Math.max(0, startColumn);
+        Lock readLock = lockNotClosed();
+        try {
+            for (int rowNum = startRow; rowNum < endRow; rowNum++) {
+                int lastColumn = Math.min(endColumn, rowLengths[rowNum]);
+                for (int column = startColumn; column < lastColumn; column++) {
+                    if (isCellEqualTo(rowNum, column, expectedString)) {
+                        return TableCellAddress.of(rowNum, column);
+                    }
+                }
+            }
+            return NOT_FOUND;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    private boolean isCellEqualTo(int rowNum, int column, @Nullable String expected) {
+        int end = getCellEnd(rowNum, column);
+        if ((end & NULL_CELL_FLAG) != 0) {
+            return expected == null;
+        } else if (expected == null) {
+            return false;
+        }
+        int start = getCellStart(rowNum, column);
+        int length = expected.length();
+        if (end - start != length) {
+            return false;
+        }
+        long address = rowCharAddresses[rowNum];
+        ByteBuffer segment = charSegments[getSegment(address)];
+        int offset = getOffset(address) + start;
+        for (int i = 0; i < length; i++) {
+            if (segment.getChar((offset + i) * Character.BYTES) != expected.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Creates string of tested cells only.
+     */
+    @Override
+    public TableCellAddress find(int startRow, int endRow, int startColumn, int endColumn,
+                                 Predicate<@Nullable String> predicate) {
+        return find(startRow, endRow, startColumn, endColumn, predicate, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Concurrent search tasks access memory under read lock acquired by caller thread.
+     */
+    @Override
+    public TableCellAddress find(int startRow, int endRow, int startColumn, int endColumn,
+                                 Predicate<@Nullable String> predicate, int parallelThreshold) {
+        int start = Math.max(0, startRow);
+        int end = Math.min(endRow, rowLengths.length);
+        Lock readLock = lockNotClosed();
+        try {
+            if (end - start < parallelThreshold) {
+                for (int rowNum = start; rowNum < end; rowNum++) {
+                    TableCellAddress address = find(rowNum, startColumn, endColumn, predicate);
+                    if (address != NOT_FOUND) {
+                        return address;
+                    }
+                }
+                return NOT_FOUND;
+            }
+            return CsvTableHelper.parallelFind(start, end, rowNum -> find(rowNum, startColumn, endColumn, predicate));
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    private TableCellAddress find(int rowNum, int startColumn, int endColumn, Predicate<@Nullable String> predicate) {
+        int lastColumn = Math.min(endColumn, rowLengths[rowNum]);
+        for (int column = Math.max(0, startColumn); column < lastColumn; column++) {
+            if (predicate.test(readCellValue(rowNum, column))) {
+                return TableCellAddress.of(rowNum, column);
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    /**
+     * Frees off-heap memory after running reads and searches are completed.
+     */
+    @Override
+    public void close() {
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            if (!closed) {
+                closed = true;
+                for (ByteBuffer segment : charSegments) {
+                    DirectByteBuffers.release(segment);
+                }
+                for (ByteBuffer segment : cellEndSegments) {
+                    DirectByteBuffers.release(segment);
+                }
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    static class Builder implements CsvRowStorageBuilder {
+        private final int segmentSize;
+        private final List<ByteBuffer> charSegments = new ArrayList<>();
+        private final List<ByteBuffer> cellEndSegments = new ArrayList<>();
+        private ByteBuffer charSegment = allocate(0);
+        private ByteBuffer cellEndSegment = allocate(0);
+        private int charPosition = 0;
+        private int cellEndPosition = 0;
+        private int rowCount = 0;
+        private long[] rowCharAddresses = new long[1024];
+        private long[] rowCellEndAddresses = new long[1024];
+        private int[] rowLengths = new int[1024];
+
+        Builder() {
+            this(DEFAULT_SEGMENT_SIZE);
+        }
+
+        Builder(int segmentSize) {
+            if (segmentSize < 0 || segmentSize > MAX_SEGMENT_SIZE) {
+                throw new IllegalArgumentException("Segment size should be in range [0, " + MAX_SEGMENT_SIZE + "]: " +
+                        segmentSize);
+            }
+            this.segmentSize = segmentSize;
+        }
+
+        /**
+         * @throws IllegalArgumentException if row has more than {@link #MAX_SEGMENT_SIZE} chars or cells
+         */
+        @Override
+        public void append(String[] row) {
+            long chars = 0;
+            for (@Nullable String cell : row) {
+                chars += (cell == null) ? 0 : cell.length();
+            }
+            if (chars > MAX_SEGMENT_SIZE || row.length > MAX_SEGMENT_SIZE) {
+                throw new IllegalArgumentException("Row of " + chars + " chars and " + row.length + " cells " +
+                        "exceeds off-heap storage limit of " + MAX_SEGMENT_SIZE + " chars or cells");
+            }
+            int rowLength = (int) chars;
+            if (charSegment.capacity() / Character.BYTES - charPosition < rowLength || charSegments.isEmpty()) {
+                charSegment = allocate(Math.max(segmentSize, rowLength) * Character.BYTES);
+                charSegments.add(charSegment);
+                charPosition = 0;
+            }
+            if (cellEndSegment.capacity() / Integer.BYTES - cellEndPosition < row.length || cellEndSegments.isEmpty()) {
+                cellEndSegment = allocate(Math.max(segmentSize, row.length) * Integer.BYTES);
+                cellEndSegments.add(cellEndSegment);
+                cellEndPosition = 0;
+            }
+            int offset = 0;
+            for (int i = 0; i < row.length; i++) {
+                @Nullable String cell = row[i];
+                int end;
+                if (cell == null) {
+                    end = offset | NULL_CELL_FLAG;
+                } else {
+                    int cellOffset = charPosition + offset;
+                    for (int j = 0; j < cell.length(); j++) {
+                        charSegment.putChar((cellOffset + j) * Character.BYTES, cell.charAt(j));
+                    }
+                    offset += cell.length();
+                    end = offset;
+                }
+                cellEndSegment.putInt((cellEndPosition + i) * Integer.BYTES, end);
+            }
+            ensureCapacity();
+            rowCharAddresses[rowCount] = getAddress(charSegments.size() - 1, charPosition);
+            rowCellEndAddresses[rowCount] = getAddress(cellEndSegments.size() - 1, cellEndPosition);
+            rowLengths[rowCount] = row.length;
+            rowCount++;
+            charPosition += rowLength;
+            cellEndPosition += row.length;
+        }
+
+        private void ensureCapacity() {
+            if (rowCount == rowLengths.length) {
+                int capacity = rowCount + (rowCount >> 1);
+                rowCharAddresses = Arrays.copyOf(rowCharAddresses, capacity);
+                rowCellEndAddresses = Arrays.copyOf(rowCellEndAddresses, capacity);
+                rowLengths = Arrays.copyOf(rowLengths, capacity);
+            }
+        }
+
+        @Override
+        public CsvRowStorage build() {
+            trimLastSegment(charSegments, charPosition * Character.BYTES);
+            trimLastSegment(cellEndSegments, cellEndPosition * Integer.BYTES);
+            return new OffHeapCsvRowStorage(
+                    charSegments.toArray(new ByteBuffer[0]),
+                    cellEndSegments.toArray(new ByteBuffer[0]),
+                    Arrays.copyOf(rowCharAddresses, rowCount),
+                    Arrays.copyOf(rowCellEndAddresses, rowCount),
+                    Arrays.copyOf(rowLengths, rowCount));
+        }
+
+        /**
+         * Frees off-heap memory of appended rows.
+         */
+        @Override
+        public void discard() {
+            charSegments.forEach(DirectByteBuffers::release);
+            cellEndSegments.forEach(DirectByteBuffers::release);
+            charSegments.clear();
+            cellEndSegments.clear();
+        }
+
+        private static void trimLastSegment(List<ByteBuffer> segments, int size) {
+            if (!segments.isEmpty()) {
+                int last = segments.size() - 1;
+                ByteBuffer segment = segments.get(last);
+                ByteBuffer content = segment.duplicate();
+                content.position(0).limit(size);
+                segments.set(last, allocate(size).put(content));
+                DirectByteBuffers.release(segment);
+            }
+        }
+    }
+}
@@ -0,0 +1,382 @@
+/*
+ * Table Wrapper CSV Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.csv;
+
+import com.univocity.parsers.csv.CsvFormat;
+import com.univocity.parsers.csv.CsvParser;
+import com.univocity.parsers.csv.CsvParserSettings;
+import lombok.NoArgsConstructor;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Splits file to chunks at record boundaries and parses chunks concurrently.
+ * Record boundaries are found by one quote aware byte scan, that is much cheaper than parsing.
+ * File is parsed sequentially if quotes are used in a way that parser may handle differently from scan
+ * (chars after closing quote or not closed quoted value), so result is always the same as of sequential parsing.
+ * Only UTF-8 and single byte ASCII compatible charsets are supported,
+ * for them ASCII delimiter, quote and line separator bytes can't be a part of other char.
+ */
+@NoArgsConstructor(access = PRIVATE)
+final class ParallelCsvParser {
+
+    private static final long SCAN_MAPPING_SIZE = 256L * 1024 * 1024;
+
+    /**
+     * @return true if uncompressed file may be parsed by
+     * {@link #parse(Path, Charset, CsvParserSettings, CsvReportPageOptions, Executor)}
+     */
+    static boolean isSupported(Path path, Charset charset, CsvParserSettings settings, long chunkSize)
+            throws IOException {
+        return Files.isRegularFile(path) &&
+                Files.size(path) >= 2 * chunkSize &&
+                isAsciiCompatible(charset) &&
+                !settings.isHeaderExtractionEnabled() &&
+                settings.getNumberOfRowsToSkip() <= 0 &&
+                settings.getNumberOfRecordsToRead() < 0;
+    }
+
+    static boolean isAsciiCompatible(Charset charset) {
+        if (charset.equals(UTF_8)) {
+            return true;
+        } else if (!charset.canEncode() || charset.newEncoder().maxBytesPerChar() != 1) {
+            return false;
+        }
+        String ascii = "\t\n\r !\"#$%&'()*+,-./:;<=>?@[\\]^_`{|}~0123456789ABCZabcz";
+        byte[] bytes = ascii.getBytes(charset);
+        for (int i = 0; i < bytes.length; i++) {
+            if (bytes[i] != ascii.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static CsvRowStorage parse(Path path, Charset charset, CsvParserSettings settings,
+                               CsvReportPageOptions options, Executor executor) throws IOException {
+        CsvParserSettings chunkSettings = getFixedFormatSettings(path, charset, settings);
+        CsvFormat format = chunkSettings.getFormat();
+        @Nullable RecordBoundaryScanner scanner = RecordBoundaryScanner.of(format, chunkSettings.isCommentProcessingEnabled());
+        if (scanner == null) { // not ASCII format chars
+            return CsvReportPage.readRows(new MappedFileReader(path, charset), chunkSettings, options);
+        }
+        long @Nullable [] boundaries = scanner.getChunkBoundaries(path, options.getParseChunkSize());
+        if (boundaries == null) { // parser may find other record boundaries
+            return CsvReportPage.readRows(new MappedFileReader(path, charset), chunkSettings, options);
+        }
+        AtomicBoolean isCancelled = new AtomicBoolean();
+        List<CompletableFuture<List<String[]>>> chunks = new ArrayList<>(boundaries.length - 1);
+        for (int i = 1; i < boundaries.length; i++) {
+            long start = boundaries[i - 1];
+            long end = boundaries[i];
+            chunks.add(CompletableFuture.supplyAsync(
+                    () -> parseChunk(path, charset, chunkSettings, start, end, isCancelled), executor));
+        }
+        CsvRowStorageBuilder builder = CsvRowStorageBuilder.of(options.getCellStorage());
+        boolean isBuilt = false;
+        try {
+            for (int i = 0; i < chunks.size(); i++) {
+                List<String[]> rows = chunks.get(i).join();
+                chunks.set(i, CompletableFuture.completedFuture(List.of())); // allow rows to be collected
+                rows.forEach(builder::append);
+            }
+            CsvRowStorage rows = builder.build();
+            isBuilt = true;
+            return rows;
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) cause).getCause();
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        } finally {
+            if (!isBuilt) {
+                isCancelled.set(true); // stops running chunks
+                chunks.forEach(chunk -> chunk.cancel(false));
+                builder.discard();
+            }
+        }
+    }
+
+    /**
+     * Returns settings with fixed format, detected from file beginning if settings require format detection.
+     */
+    static CsvParserSettings getFixedFormatSettings(Path path, Charset charset, CsvParserSettings settings)
+            throws IOException {
+        CsvParserSettings fixedFormatSettings = settings.clone();
+        if (settings.isDelimiterDetectionEnabled() ||
+                settings.isQuoteDetectionEnabled() ||
+                settings.isLineSeparatorDetectionEnabled()) {
+            try (Reader reader = new MappedFileReader(path, charset)) {
+                CsvParser parser = new CsvParser(settings);
+                parser.beginParsing(reader);
+                parser.parseNext();
+                @Nullable CsvFormat detectedFormat = parser.getDetectedFormat();
+                parser.stopParsing();
+                if (detectedFormat != null) {
+                    fixedFormatSettings.setFormat(detectedFormat);
+                }
+            }
+            fixedFormatSettings.setDelimiterDetectionEnabled(false);
+            fixedFormatSettings.setQuoteDetectionEnabled(false);
+            fixedFormatSettings.setLineSeparatorDetectionEnabled(false);
+        }
+        return fixedFormatSettings;
+    }
+
+    /**
+     * @param isCancelled if set, parsing is stopped and parsed rows are returned
+     */
+    private static List<String[]> parseChunk(Path path, Charset charset, CsvParserSettings settings,
+                                             long start, long end, AtomicBoolean isCancelled) {
+        try (Reader reader = new MappedFileReader(path, charset, start, end, MappedFileReader.DEFAULT_CHUNK_SIZE)) {
+            List<String[]> rows = new ArrayList<>();
+            CsvParser parser = new CsvParser(settings);
+            parser.beginParsing(reader);
+            String @Nullable [] row;
+            while (!isCancelled.get() && (row = parser.parseNext()) != null) {
+                rows.add(row);
+            }
+            parser.stopParsing();
+            return rows;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Finds record starts outside quoted values and comments.
+     * Quote opens quoted value at field start only, as parser does. Chars after closing quote other than
+     * delimiter or line separator and not closed quoted value make quotes ambiguous, because parser handles
+     * such quotes by unescaped quote handling setting and may find other record boundaries.
+     */
+    static class RecordBoundaryScanner {
+        private static final int LINE_START = 0;
+        private static final int FIELD_START = 1;
+        private static final int UNQUOTED = 2;
+        private static final int QUOTED = 3;
+        private static final int QUOTE_IN_QUOTED = 4;
+        private static final int ESCAPE_IN_QUOTED = 5;
+        private static final int COMMENT = 6;
+        private static final int CLOSING_QUOTE = 7;
+        private final byte delimiter;
+        private final byte quote;
+        private final byte quoteEscape;
+        private final int comment;
+        private final byte newLine;
+        private final byte lineSeparatorStart;
+        private int state = LINE_START;
+        private boolean isQuoteAmbiguous = false;
+
+        private RecordBoundaryScanner(byte delimiter, byte quote, byte quoteEscape, int comment, byte newLine,
+                                      byte lineSeparatorStart) {
+            this.delimiter = delimiter;
+            this.quote = quote;
+            this.quoteEscape = quoteEscape;
+            this.comment = comment;
+            this.newLine = newLine;
+            this.lineSeparatorStart = lineSeparatorStart;
+        }
+
+        /**
+         * @return scanner or null if format chars are not ASCII
+         */
+        static @Nullable RecordBoundaryScanner of(CsvFormat format, boolean isCommentProcessingEnabled) {
+            String delimiter = format.getDelimiterString();
+            char[] lineSeparator = format.getLineSeparator();
+            char comment = format.getComment();
+            if (delimiter.length() != 1 || lineSeparator.length == 0 ||
+                    !isAscii(delimiter.charAt(0)) ||
+                    !isAscii(format.getQuote()) ||
+                    !isAscii(format.getQuoteEscape()) ||
+                    !isAscii(lineSeparator[0]) ||
+                    !isAscii(lineSeparator[lineSeparator.length - 1])) {
+                return null;
+            }
+            boolean hasComments = isCommentProcessingEnabled && comment != '\0';
+            if (hasComments && !isAscii(comment)) {
+                return null;
+            }
+            return new RecordBoundaryScanner(
+                    (byte) delimiter.charAt(0),
+                    (byte) format.getQuote(),
+                    (byte) format.getQuoteEscape(),
+                    hasComments ? comment : -1,
+                    (byte) lineSeparator[lineSeparator.length - 1],
+                    (byte) lineSeparator[0]);
+        }
+
+        private static boolean isAscii(char c) {
+            return c > 0 && c < 0x80;
+        }
+
+        /**
+         * @return ascending chunk boundaries, first is 0, last is file size,
+         * or null if quotes are ambiguous and file should be parsed sequentially
+         */
+        long @Nullable [] getChunkBoundaries(Path path, long chunkSize) throws IOException {
+            List<Long> boundaries = new ArrayList<>();
+            boundaries.add(0L);
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                long fileSize = channel.size();
+                long nextBoundary = chunkSize;
+                for (long mappingPosition = 0; mappingPosition < fileSize; mappingPosition += SCAN_MAPPING_SIZE) {
+                    long mappingSize = Math.min(SCAN_MAPPING_SIZE, fileSize - mappingPosition);
+                    MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, mappingPosition, mappingSize);
+                    try {
+                        for (int i = 0; i < mappingSize; i++) {
+                            long position = mappingPosition + i;
+                            if (accept(buffer.get(i)) && position >= nextBoundary - 1) {
+                                boundaries.add(position + 1);
+                                nextBoundary = position + 1 + chunkSize;
+                            }
+                        }
+                    } finally {
+                        DirectByteBuffers.release(buffer);
+                    }
+                }
+                if (boundaries.get(boundaries.size() - 1) != fileSize) {
+                    boundaries.add(fileSize);
+                }
+            }
+            if (isQuoteAmbiguous || state == QUOTED || state == ESCAPE_IN_QUOTED) { // or quoted value is not closed
+                return null;
+            }
+            return boundaries.stream()
+                    .mapToLong(Long::longValue)
+                    .toArray();
+        }
+
+        /**
+         * Continues scan from the state at the end of previously scanned bytes.
+         *
+         * @return position after last record ending in [start, end) range or -1 if no record ends in the range
+         */
+        long findLastRecordEnd(FileChannel channel, long start, long end) throws IOException {
+            long recordEnd = -1;
+            for (long mappingPosition = start; mappingPosition < end; mappingPosition += SCAN_MAPPING_SIZE) {
+                long mappingSize = Math.min(SCAN_MAPPING_SIZE, end - mappingPosition);
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, mappingPosition, mappingSize);
+                try {
+                    for (int i = 0; i < mappingSize; i++) {
+                        if (accept(buffer.get(i))) {
+                            recordEnd = mappingPosition + i + 1;
+                        }
+                    }
+                } finally {
+                    DirectByteBuffers.release(buffer);
+                }
+            }
+            return recordEnd;
+        }
+
+        /**
+         * @return true if next byte starts new record
+         */
+        boolean accept(byte b) {
+            switch (state) {
+                case LINE_START:
+                    if (b == comment) {
+                        state = COMMENT;
+                        return false;
+                    }
+                    return acceptFieldStart(b);
+                case FIELD_START:
+                    return acceptFieldStart(b);
+                case UNQUOTED:
+                    return acceptUnquoted(b);
+                case QUOTED:
+                    if (b == quoteEscape && quoteEscape != quote) {
+                        state = ESCAPE_IN_QUOTED;
+                    } else if (b == quote) {
+                        state = (quoteEscape == quote) ? QUOTE_IN_QUOTED : CLOSING_QUOTE;
+                    }
+                    return false;
+                case QUOTE_IN_QUOTED:
+                    if (b == quote) { // escaped quote
+                        state = QUOTED;
+                        return false;
+                    }
+                    return acceptClosingQuoteNext(b);
+                case CLOSING_QUOTE:
+                    return acceptClosingQuoteNext(b);
+                case ESCAPE_IN_QUOTED:
+                    state = QUOTED;
+                    return false;
+                case COMMENT:
+                    if (b == newLine) {
+                        state = LINE_START;
+                        return true;
+                    }
+                    return false;
+                default:
+                    throw new IllegalStateException("Unexpected state " + state);
+            }
+        }
+
+        private boolean acceptClosingQuoteNext(byte b) {
+            if (b != delimiter && b != newLine && b != lineSeparatorStart) {
+                isQuoteAmbiguous = true;
+            }
+            return acceptUnquoted(b);
+        }
+
+        private boolean acceptFieldStart(byte b) {
+            if (b == quote) {
+                state = QUOTED;
+                return false;
+            } else if (b == ' ' || b == '\t') {
+                state = FIELD_START;
+                return false;
+            }
+            return acceptUnquoted(b);
+        }
+
+        private boolean acceptUnquoted(byte b) {
+            if (b == newLine) {
+                state = LINE_START;
+                return true;
+            }
+            state = (b == delimiter) ? FIELD_START : UNQUOTED;
+            return false;
+        }
+    }
+}
@@ -0,0 +1,311 @@
+/*
+ * Table Wrapper CSV Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.csv;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spacious_team.table_wrapper.api.TableCellAddress;
+
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.spacious_team.table_wrapper.api.TableCellAddress.NOT_FOUND;
+import static org.spacious_team.table_wrapper.csv.CsvSnapshot.EMPTY_SLOT;
+import static org.spacious_team.table_wrapper.csv.CsvSnapshot.NULL_CELL_ID;
+
+/**
+ * Rows of memory mapped {@link CsvSnapshot} file. Nothing is decoded on open, string of cell value is decoded
+ * on first access and reused later. Find by value looks up string id of value in snapshot hash table,
+ * then compares string ids of cells, so values are not decoded. Storage can't be used after {@link #close()}.
+ * File is accessed under read lock and unmapped under write lock, so close waits for running reads and searches.
+ */
+class SnapshotCsvRowStorage implements CsvRowStorage {
+
+    private final MappedByteBuffer buffer;
+    private final String key;
+    private final int stringCount;
+    private final int stringOffsetsPosition;
+    private final int stringsPosition;
+    private final int hashTableSize;
+    private final int hashTablePosition;
+    private final int rowCount;
+    private final int rowOffsetsPosition;
+    private final int cellIdsPosition;
+    private final @Nullable String[] strings; // decoded values, race may only cause repeated decoding
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private boolean closed = false; // guarded by lock
+
+    /**
+     * @throws IndexOutOfBoundsException if snapshot is corrupted
+     */
+    SnapshotCsvRowStorage(MappedByteBuffer buffer) {
+        this.buffer = buffer;
+        int position = 2 * Integer.BYTES; // magic and version
+        byte[] keyBytes = new byte[buffer.getInt(position)];
+        position += Integer.BYTES;
+        getBytes(buffer, position, keyBytes);
+        this.key = new String(keyBytes, UTF_8);
+        position += keyBytes.length;
+        this.stringCount = buffer.getInt(position);
+        this.stringOffsetsPosition = position + Integer.BYTES;
+        this.stringsPosition = stringOffsetsPosition + (stringCount + 1) * Integer.BYTES;
+        position = stringsPosition + buffer.getInt(stringOffsetsPosition + stringCount * Integer.BYTES);
+        this.hashTableSize = buffer.getInt(position);
+        if (Integer.bitCount(hashTableSize) != 1 || hashTableSize < stringCount) {
+            throw new IndexOutOfBoundsException("Wrong hash table size " + hashTableSize);
+        }
+        this.hashTablePosition = position + Integer.BYTES;
+        position = hashTablePosition + hashTableSize * Integer.BYTES;
+        this.rowCount = buffer.getInt(position);
+        this.rowOffsetsPosition = position + Integer.BYTES;
+        this.cellIdsPosition = rowOffsetsPosition + (rowCount + 1) * Integer.BYTES;
+        this.strings = new String[stringCount];
+        int cellCount = buffer.getInt(rowOffsetsPosition + rowCount * Integer.BYTES);
+        long size = (long) cellIdsPosition + (long) cellCount * Integer.BYTES;
+        if (size != buffer.capacity()) {
+            throw new IndexOutOfBoundsException("Snapshot size " + buffer.capacity() + " is not equal to " + size);
+        }
+    }
+
+    private static void getBytes(ByteBuffer buffer, int position, byte[] bytes) {
+        ByteBuffer source = buffer.duplicate();
+        source.position(position);
+        source.get(bytes);
+    }
+
+    String getKey() {
+        return key;
+    }
+
+    @Override
+    @SuppressWarnings("nullness") // row may contain nulls as parser returned row does
+    public String @Nullable [] getRow(int rowNum) {
+        if (rowNum < 0 || rowNum >= rowCount) {
+            return null;
+        }
+        Lock readLock = lockNotClosed();
+        try {
+            int firstCell = getRowOffset(rowNum);
+            String[] row = new String[getRowOffset(rowNum + 1) - firstCell];
+            for (int i = 0; i < row.length; i++) {
+                row[i] = getString(getCellId(firstCell + i));
+            }
+            return row;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Decodes requested cell only.
+     */
+    @Override
+    public @Nullable String getCellValue(int rowNum, int column) {
+        if (rowNum < 0 || rowNum >= rowCount || column < 0) {
+            return null;
+        }
+        Lock readLock = lockNotClosed();
+        try {
+            int firstCell = getRowOffset(rowNum);
+            return (column >= getRowOffset(rowNum + 1) - firstCell) ? null : getString(getCellId(firstCell + column));
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public int getLastRowNum() {
+        return rowCount - 1;
+    }
+
+    @Override
+    public long getCellCount() {
+        Lock readLock = lockNotClosed();
+        try {
+            return getRowOffset(rowCount);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * @return acquired read lock, should be unlocked after file access
+     */
+    private Lock lockNotClosed() {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        if (closed) {
+            readLock.unlock();
+            throw new IllegalStateException("Snapshot row storage is closed");
+        }
+        return readLock;
+    }
+
+    private int getRowOffset(int rowNum) {
+        return buffer.getInt(rowOffsetsPosition + rowNum * Integer.BYTES);
+    }
+
+    private int getCellId(int cell) {
+        return buffer.getInt(cellIdsPosition + cell * Integer.BYTES);
+    }
+
+    private int getStringOffset(int id) {
+        return buffer.getInt(stringOffsetsPosition + id * Integer.BYTES);
+    }
+
+    private @Nullable String getString(int id) {
+        if (id == NULL_CELL_ID) {
+            return null;
+        }
+        @Nullable String string = strings[id];
+        if (string == null) {
+            int offset = getStringOffset(id);
+            byte[] bytes = new byte[getStringOffset(id + 1) - offset];
+            getBytes(buffer, stringsPosition + offset, bytes);
+            string = new String(bytes, UTF_8);
+            strings[id] = string;
+        }
+        return string;
+    }
+
+    /**
+     * @return string id or -2 if value is absent in snapshot
+     */
+    private int getStringId(@Nullable String value) {
+        if (value == null) {
+            return NULL_CELL_ID;
+        }
+        byte[] bytes = value.getBytes(UTF_8);
+        int slot = CsvSnapshot.getSlot(value, hashTableSize);
+        for (int i = 0; i < hashTableSize; i++) {
+            int id = buffer.getInt(hashTablePosition + slot * Integer.BYTES);
+            if (id == EMPTY_SLOT) {
+                break;
+            }
+            int offset = getStringOffset(id);
+            if (getStringOffset(id + 1) - offset == bytes.length && isEqual(stringsPosition + offset, bytes)) {
+                return id;
+            }
+            slot = (slot + 1) & (hashTableSize - 1);
+        }
+        return -2;
+    }
+
+    private boolean isEqual(int position, byte[] bytes) {
+        for (int i = 0; i < bytes.length; i++) {
+            if (buffer.get(position + i) != bytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Finds string id of value once, then compares ids of cells.
+     */
+    @Override
+    public TableCellAddress find(@Nullable Object expected, int startRow, int endRow, int startColumn, int endColumn) {
+        @Nullable String expectedString = (expected == null) ? null : expected.toString();
+        startRow = Math.max(0, startRow);
+        endRow = Math.min(endRow, rowCount);
+        startColumn = Math.max(0, startColumn);
+        Lock readLock = lockNotClosed();
+        try {
+            int expectedId = getStringId(expectedString);
+            if (expectedId == -2) {
+                return NOT_FOUND;
+            }
+            for (int rowNum = startRow; rowNum < endRow; rowNum++) {
+                int firstCell = getRowOffset(rowNum);
+                int lastColumn = Math.min(endColumn, getRowOffset(rowNum + 1) - firstCell);
+                for (int column = startColumn; column < lastColumn; column++) {
+                    if (getCellId(firstCell + column) == expectedId) {
+                        return TableCellAddress.of(rowNum, column);
+                    }
+                }
+            }
+            return NOT_FOUND;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public TableCellAddress find(int startRow, int endRow, int startColumn, int endColumn,
+                                 Predicate<@Nullable String> predicate) {
+        return find(startRow, endRow, startColumn, endColumn, predicate, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Concurrent search tasks access file under read lock acquired by caller thread.
+     */
+    @Override
+    public TableCellAddress find(int startRow, int endRow, int startColumn, int endColumn,
+                                 Predicate<@Nullable String> predicate, int parallelThreshold) {
+        int start = Math.max(0, startRow);
+        int end = Math.min(endRow, rowCount);
+        Lock readLock = lockNotClosed();
+        try {
+            if (end - start < parallelThreshold) {
+                for (int rowNum = start; rowNum < end; rowNum++) {
+                    TableCellAddress address = find(rowNum, startColumn, endColumn, predicate);
+                    if (address != NOT_FOUND) {
+                        return address;
+                    }
+                }
+                return NOT_FOUND;
+            }
+            return CsvTableHelper.parallelFind(start, end, rowNum -> find(rowNum, startColumn, endColumn, predicate));
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    private TableCellAddress find(int rowNum, int startColumn, int endColumn, Predicate<@Nullable String> predicate) {
+        int firstCell = getRowOffset(rowNum);
+        int lastColumn = Math.min(endColumn, getRowOffset(rowNum + 1) - firstCell);
+        for (int column = Math.max(0, startColumn); column < lastColumn; column++) {
+            if (predicate.test(getString(getCellId(firstCell + column)))) {
+                return TableCellAddress.of(rowNum, column);
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    /**
+     * Unmaps snapshot file after running reads and searches are completed.
+     */
+    @Override
+    public void close() {
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            if (!closed) {
+                closed = true;
+                DirectByteBuffers.release(buffer);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Table Wrapper CSV Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.csv;
+
+import com.univocity.parsers.csv.CsvParserSettings;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spacious_team.table_wrapper.api.TableCellAddress;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.util.function.Predicate;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Report page which parses input on demand and keeps in memory only a sliding window of last parsed rows,
+ * so memory consumption does not depend on input size.
+ * <p>
+ * Rows are read forward only: {@link #find} and {@link #getRow} parse input until requested row,
+ * access to a row evicted from the window throws {@link IllegalStateException}.
+ * {@link #getLastRowNum()} reads input until the end, so search methods without end row are not bounded
+ * by it and read input until found cell only. Window should be large enough to hold a whole table
+ * (table name, header and data rows). Page should be closed after use.
+ */
+public class StreamingCsvReportPage extends CsvReportPage {
+
+    public static final int DEFAULT_WINDOW_SIZE = 10_000;
+    // row cache is disabled, cached row could be returned after eviction from window
+    private static final CsvReportPageOptions OPTIONS = CsvReportPageOptions.builder()
+            .rowCacheSize(0)
+            .build();
+
+    /**
+     * Field and line delimiter detected automatically. UTF-8 encoded file expected.
+     */
+    public StreamingCsvReportPage(Path path) throws IOException {
+        this(path, UTF_8, getDefaultCsvParserSettings(), DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * @implSpec Closes file on end of input or on {@link #close()}
+     */
+    public StreamingCsvReportPage(Path path, Charset charset, CsvParserSettings csvParserSettings, int windowSize)
+            throws IOException {
+        super(openRows(openReader(path, charset), csvParserSettings, windowSize), OPTIONS);
+    }
+
+    /**
+     * Field and line delimiter detected automatically. UTF-8 encoded file expected.
+     *
+     * @implSpec Does not close inputStream
+     */
+    public StreamingCsvReportPage(InputStream inputStream) throws IOException {
+        this(inputStream, UTF_8, getDefaultCsvParserSettings(), DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * Input stream should not be used by caller until page is closed.
+     * Gzip and zip compressed input is decompressed on the fly.
+     *
+     * @implSpec Does not close inputStream
+     */
+    public StreamingCsvReportPage(InputStream inputStream, Charset charset,
+                                  CsvParserSettings csvParserSettings, int windowSize) throws IOException {
+        super(openRows(openReader(new CloseIgnoringInputStream(inputStream), charset), csvParserSettings, windowSize),
+                OPTIONS);
+    }
+
+    @Override
+    public TableCellAddress find(Object value) {
+        return find(value, 0);
+    }
+
+    @Override
+    public TableCellAddress find(Object value, int startRow) {
+        return find(value, startRow, Integer.MAX_VALUE, 0, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public TableCellAddress find(Predicate<@Nullable Object> cellValuePredicate) {
+        return find(0, cellValuePredicate);
+    }
+
+    @Override
+    public TableCellAddress find(int startRow, Predicate<@Nullable Object> cellValuePredicate) {
+        return find(startRow, Integer.MAX_VALUE, 0, Integer.MAX_VALUE, cellValuePredicate);
+    }
+
+    @Override
+    public TableCellAddress findByPrefix(@Nullable String prefix) {
+        return findByPrefix(prefix, 0);
+    }
+
+    @Override
+    public TableCellAddress findByPrefix(@Nullable String prefix, int startRow) {
+        return findByPrefix(prefix, startRow, Integer.MAX_VALUE, 0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @implSpec Closes inputReader on error
+     */
+    private static CsvRowStorage openRows(Reader inputReader,
+                                          CsvParserSettings csvParserSettings,
+                                          int windowSize) throws IOException {
+        try {
+            return new StreamingCsvRowStorage(inputReader, csvParserSettings, windowSize);
+        } catch (RuntimeException e) {
+            inputReader.close();
+            throw e;
+        }
+    }
+}
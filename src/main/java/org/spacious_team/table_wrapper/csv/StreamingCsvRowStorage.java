@@ -0,0 +1,130 @@
+/*
+ * Table Wrapper CSV Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.csv;
+
+import com.univocity.parsers.csv.CsvParser;
+import com.univocity.parsers.csv.CsvParserSettings;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.Reader;
+
+/**
+ * Parses rows on demand and keeps only last {@code windowSize} of them.
+ * Rows are parsed forward only, evicted rows can't be accessed again.
+ */
+class StreamingCsvRowStorage implements CsvRowStorage {
+
+    private static final int INITIAL_CAPACITY = 256;
+    private final CsvParser parser;
+    private final int windowSize;
+    private String[][] window;
+    private int head = 0;
+    private int size = 0;
+    private int firstRowNum = 0;
+    private boolean endOfInput = false;
+
+    /**
+     * @implSpec Closes reader on end of input or on {@link #close()}
+     */
+    StreamingCsvRowStorage(Reader reader, CsvParserSettings csvParserSettings, int windowSize) {
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("Window size should be positive, got " + windowSize);
+        }
+        this.windowSize = windowSize;
+        this.window = new String[Math.min(windowSize, INITIAL_CAPACITY)][];
+        this.parser = new CsvParser(csvParserSettings);
+        parser.beginParsing(reader);
+    }
+
+    @Override
+    public synchronized String @Nullable [] getRow(int rowNum) {
+        if (rowNum < 0 || !readUntil(rowNum)) {
+            return null;
+        } else if (rowNum < firstRowNum) {
+            throw new IllegalStateException("Row " + rowNum + " is already evicted from streaming window [" +
+                    firstRowNum + ", " + (firstRowNum + size) + "), increase window size");
+        }
+        return window[(head + rowNum - firstRowNum) % window.length];
+    }
+
+    @Override
+    public synchronized int getLastRowNum() {
+        readUntil(Integer.MAX_VALUE);
+        return firstRowNum + size - 1;
+    }
+
+    /**
+     * Unlike {@link #getLastRowNum()} reads input until requested row only.
+     */
+    @Override
+    public synchronized int getRowCountBefore(int endRow) {
+        if (endRow <= 0) {
+            return 0;
+        }
+        readUntil(endRow - 1);
+        return Math.min(endRow, firstRowNum + size);
+    }
+
+    /**
+     * @return true if input contains row with requested number
+     */
+    private boolean readUntil(int rowNum) {
+        while (!endOfInput && rowNum >= firstRowNum + size) {
+            String @Nullable [] row = parser.parseNext();
+            if (row == null) {
+                endOfInput = true;
+            } else {
+                append(row);
+            }
+        }
+        return rowNum < firstRowNum + size;
+    }
+
+    private void append(String[] row) {
+        if (size == window.length) {
+            if (window.length < windowSize) {
+                grow();
+            } else {
+                head = (head + 1) % window.length;
+                firstRowNum++;
+                size--;
+            }
+        }
+        window[(head + size) % window.length] = row;
+        size++;
+    }
+
+    private void grow() {
+        int capacity = (int) Math.min(windowSize, 2L * window.length);
+        String[][] newWindow = new String[capacity][];
+        for (int i = 0; i < size; i++) {
+            newWindow[i] = window[(head + i) % window.length];
+        }
+        window = newWindow;
+        head = 0;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (!endOfInput) {
+            endOfInput = true;
+            parser.stopParsing();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Table Wrapper CSV Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.csv;
+
+import com.univocity.parsers.csv.CsvParserSettings;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Report page of file which is appended to, for example feed file written during trading day.
+ * Page is created from complete records of file, {@link #refresh()} parses only records appended after
+ * previous refresh and adds them to the page, so refresh takes time proportional to appended bytes.
+ * <p>
+ * Record is added to the page after its line separator is written. CSV format is detected (if detection
+ * is enabled by settings) from file content available on first refresh. Only regular uncompressed files,
+ * UTF-8 and single byte ASCII compatible charsets are supported. Rows are not changed by refresh,
+ * so found addresses and created tables remain valid, but tables do not see appended rows.
+ * Refresh may be executed concurrently with page reading.
+ */
+public class TailingCsvReportPage extends CsvReportPage {
+
+    private final TailingCsvRowStorage rows;
+
+    /**
+     * Field and line delimiter detected automatically. UTF-8 encoded file expected.
+     */
+    public TailingCsvReportPage(Path path) throws IOException {
+        this(path, UTF_8, getDefaultCsvParserSettings());
+    }
+
+    /**
+     * @throws IllegalArgumentException if file, charset or settings are not supported
+     */
+    public TailingCsvReportPage(Path path, Charset charset, CsvParserSettings csvParserSettings) throws IOException {
+        this(TailingCsvRowStorage.open(path, charset, csvParserSettings));
+    }
+
+    private TailingCsvReportPage(TailingCsvRowStorage rows) {
+        super(rows);
+        this.rows = rows;
+    }
+
+    /**
+     * Parses records appended to file after previous refresh.
+     *
+     * @return count of rows added to the page
+     * @throws IOException if file is truncated or can't be read
+     */
+    public int refresh() throws IOException {
+        return rows.refresh();
+    }
+}
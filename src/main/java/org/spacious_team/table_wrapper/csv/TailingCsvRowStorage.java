@@ -0,0 +1,195 @@
+/*
+ * Table Wrapper CSV Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.csv;
+
+import com.univocity.parsers.csv.CsvParser;
+import com.univocity.parsers.csv.CsvParserSettings;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spacious_team.table_wrapper.api.TableCellAddress;
+import org.spacious_team.table_wrapper.csv.ParallelCsvParser.RecordBoundaryScanner;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Keeps rows of file which is appended to. Each {@link #refresh()} scans and parses only bytes appended
+ * after previous refresh. Bytes after the last complete record (ended by line separator outside quotes)
+ * are parsed by next refresh, after record is completed. Record boundary scanner state is kept between
+ * refreshes, so bytes of incomplete record are not scanned twice.
+ * <p>
+ * Rows are appended by refresh and are read without locking, row count is published after row is stored.
+ * Rows of refresh are appended after all appended records are parsed, so failed refresh does not add rows
+ * and records are parsed again by next refresh.
+ */
+class TailingCsvRowStorage implements CsvRowStorage {
+
+    private static final int INITIAL_CAPACITY = 256;
+    private final Path path;
+    private final Charset charset;
+    private final CsvParserSettings csvParserSettings;
+    private volatile String[][] rows = new String[INITIAL_CAPACITY][];
+    private volatile int size = 0;
+    private @Nullable CsvParserSettings fixedFormatSettings = null; // format is detected on first not empty file
+    private @Nullable RecordBoundaryScanner scanner = null;
+    private long parsedPosition = 0; // end of last parsed record
+    private long scannedPosition = 0;
+
+    private TailingCsvRowStorage(Path path, Charset charset, CsvParserSettings csvParserSettings) {
+        this.path = path;
+        this.charset = charset;
+        this.csvParserSettings = csvParserSettings;
+    }
+
+    /**
+     * @throws IllegalArgumentException if file is not regular uncompressed file, charset is not ASCII compatible
+     *                                  or settings require header extraction, row skipping or records limit
+     */
+    static TailingCsvRowStorage open(Path path, Charset charset, CsvParserSettings csvParserSettings)
+            throws IOException {
+        if (!Files.isRegularFile(path) || CompressedInputStreams.isCompressed(path)) {
+            throw new IllegalArgumentException("Regular uncompressed file expected: " + path);
+        } else if (!ParallelCsvParser.isAsciiCompatible(charset)) {
+            throw new IllegalArgumentException("Charset is not supported: " + charset);
+        } else if (csvParserSettings.isHeaderExtractionEnabled() ||
+                csvParserSettings.getNumberOfRowsToSkip() > 0 ||
+                csvParserSettings.getNumberOfRecordsToRead() >= 0) {
+            throw new IllegalArgumentException("Header extraction, rows skipping and records limit are not supported");
+        }
+        TailingCsvRowStorage storage = new TailingCsvRowStorage(path, charset, csvParserSettings);
+        storage.refresh();
+        return storage;
+    }
+
+    /**
+     * Parses records appended to file after previous refresh.
+     *
+     * @return count of appended rows
+     * @throws IOException if file is truncated
+     */
+    synchronized int refresh() throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize < scannedPosition) {
+                throw new IOException("File is truncated, can't continue tailing: " + path);
+            } else if (fileSize == scannedPosition) {
+                return 0;
+            }
+            CsvParserSettings settings = fixedFormatSettings;
+            RecordBoundaryScanner boundaryScanner = scanner;
+            if (settings == null || boundaryScanner == null) {
+                settings = ParallelCsvParser.getFixedFormatSettings(path, charset, csvParserSettings);
+                boundaryScanner = createScanner(settings);
+                fixedFormatSettings = settings;
+                scanner = boundaryScanner;
+            }
+            long recordEnd;
+            try {
+                recordEnd = boundaryScanner.findLastRecordEnd(channel, scannedPosition, fileSize);
+                scannedPosition = fileSize;
+                if (recordEnd == -1) {
+                    return 0;
+                }
+                int appendedRows = parse(settings, parsedPosition, recordEnd);
+                parsedPosition = recordEnd;
+                return appendedRows;
+            } catch (IOException | RuntimeException e) {
+                // bytes after last parsed record are scanned and parsed again by next refresh
+                scanner = createScanner(settings);
+                scannedPosition = parsedPosition;
+                throw e;
+            }
+        }
+    }
+
+    private static RecordBoundaryScanner createScanner(CsvParserSettings settings) {
+        @Nullable RecordBoundaryScanner scanner =
+                RecordBoundaryScanner.of(settings.getFormat(), settings.isCommentProcessingEnabled());
+        if (scanner == null) {
+            throw new IllegalArgumentException("Not ASCII delimiter, quote or line separator is not supported");
+        }
+        return scanner;
+    }
+
+    private int parse(CsvParserSettings settings, long start, long end) throws IOException {
+        List<String[]> parsedRows = new ArrayList<>();
+        try (Reader reader = new MappedFileReader(path, charset, start, end, MappedFileReader.DEFAULT_CHUNK_SIZE)) {
+            CsvParser parser = new CsvParser(settings);
+            parser.beginParsing(reader);
+            String @Nullable [] row;
+            while ((row = parser.parseNext()) != null) {
+                parsedRows.add(row);
+            }
+        }
+        parsedRows.forEach(this::append);
+        return parsedRows.size();
+    }
+
+    private void append(String[] row) {
+        String[][] table = rows;
+        int rowNum = size;
+        if (rowNum == table.length) {
+            table = Arrays.copyOf(table, rowNum + (rowNum >> 1));
+            table[rowNum] = row;
+            rows = table;
+        } else {
+            table[rowNum] = row;
+        }
+        size = rowNum + 1;
+    }
+
+    @Override
+    public String @Nullable [] getRow(int rowNum) {
+        int rowCount = size; // read before rows, so rows contains all counted rows
+        return (rowNum < 0 || rowNum >= rowCount) ? null : rows[rowNum];
+    }
+
+    @Override
+    public int getLastRowNum() {
+        return size - 1;
+    }
+
+    @Override
+    public long getCellCount() {
+        int rowCount = size;
+        String[][] table = rows;
+        long cells = 0;
+        for (int i = 0; i < rowCount; i++) {
+            cells += table[i].length;
+        }
+        return cells;
+    }
+
+    @Override
+    public TableCellAddress find(int startRow, int endRow, int startColumn, int endColumn,
+                                 Predicate<@Nullable String> predicate, int parallelThreshold) {
+        int rowCount = size;
+        String[][] table = rows;
+        return CsvTableHelper.find(table, startRow, Math.min(endRow, rowCount), startColumn, endColumn,
+                predicate, parallelThreshold);
+    }
+}
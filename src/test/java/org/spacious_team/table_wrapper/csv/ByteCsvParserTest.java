@@ -0,0 +1,190 @@
+/*
+ * Table Wrapper CSV Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.csv;
+
+import com.univocity.parsers.csv.CsvParserSettings;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ByteCsvParserTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "a,b\n1,2\n",
+            "a,b",
+            "a,\n",
+            ",,\n",
+            "\"a\",\n",
+            "a, b ,c\n\n\n x,\"q\"\"w\",\"\"\n",
+            "\"multi\nline\",x\n",
+            "\ta ,b\n",
+            "Текст,да\n"})
+    void parseAsCsvParser(String csv) throws IOException {
+        assertParsedAsCsvParser(csv, UTF_8, new CsvParserSettings());
+    }
+
+    @Test
+    void parseWindows1251AsCsvParser() throws IOException {
+        assertParsedAsCsvParser("Текст,да\nещё,\"нет\"", Charset.forName("Windows-1251"), new CsvParserSettings());
+    }
+
+    @Test
+    void parseCrLfAsCsvParser() throws IOException {
+        CsvParserSettings settings = new CsvParserSettings();
+        settings.getFormat().setLineSeparator("\r\n");
+        assertParsedAsCsvParser("a,b\r\n\r\n\"c\r\nd\",e\r\n", UTF_8, settings);
+    }
+
+    @Test
+    void parseSemicolonDelimitedAsCsvParser() throws IOException {
+        CsvParserSettings settings = new CsvParserSettings();
+        settings.getFormat().setDelimiter(';');
+        assertParsedAsCsvParser("a;1,2\nb;\"3;4\"", UTF_8, settings);
+    }
+
+    @SuppressWarnings("ConstantConditions")
+    private static void assertParsedAsCsvParser(String csv, Charset charset, CsvParserSettings settings)
+            throws IOException {
+        @Nullable ByteCsvParser parser = ByteCsvParser.of(charset, settings);
+        CsvRowStorage rows = parser.parse(
+                new ByteArrayInputStream(csv.getBytes(charset)), CsvRowStorageBuilder.of(CsvCellStorage.ARRAY));
+        CsvRowStorage expected = CsvReportPage.readRows(new StringReader(csv), settings, CsvReportPageOptions.DEFAULT);
+
+        assertEquals(expected.getLastRowNum(), rows.getLastRowNum());
+        for (int i = 0; i <= expected.getLastRowNum(); i++) {
+            assertArrayEquals(expected.getRow(i), rows.getRow(i));
+        }
+    }
+
+    @Test
+    @SuppressWarnings("ConstantConditions")
+    void parseSelectedColumns() throws IOException {
+        @Nullable ByteCsvParser parser = ByteCsvParser.of(UTF_8, new CsvParserSettings(), new int[]{0, 2});
+        CsvRowStorage rows = parser.parse(new ByteArrayInputStream("a,b,c,d\n1,2".getBytes(UTF_8)),
+                CsvRowStorageBuilder.of(CsvCellStorage.ARRAY));
+
+        assertArrayEquals(new String[]{"a", null, "c", null}, rows.getRow(0));
+        assertArrayEquals(new String[]{"1", null}, rows.getRow(1));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "  \n",
+            "#comment\n",
+            "  #comment\n",
+            "a\"b\n",
+            "\"a\" ,b\n",
+            "\"a\"b\n",
+            "\"not closed\n",
+            "\uFEFFa,b\n",
+            "a\0b\n"})
+    @SuppressWarnings("ConstantConditions")
+    void parseNotSupported(String csv) throws IOException {
+        @Nullable ByteCsvParser parser = ByteCsvParser.of(UTF_8, new CsvParserSettings());
+        assertNull(parser.parse(
+                new ByteArrayInputStream(csv.getBytes(UTF_8)), CsvRowStorageBuilder.of(CsvCellStorage.ARRAY)));
+    }
+
+    @Test
+    @SuppressWarnings("ConstantConditions")
+    void parseNotSupportedDiscardsBuilder() throws IOException {
+        CsvRowStorageBuilder rows = CsvRowStorageBuilder.of(CsvCellStorage.OFF_HEAP);
+        AtomicBoolean isDiscarded = new AtomicBoolean();
+        CsvRowStorageBuilder builder = new CsvRowStorageBuilder() {
+            @Override
+            public void append(String[] row) {
+                rows.append(row);
+            }
+
+            @Override
+            public CsvRowStorage build() {
+                return rows.build();
+            }
+
+            @Override
+            public void discard() {
+                isDiscarded.set(true);
+                rows.discard();
+            }
+        };
+        @Nullable ByteCsvParser parser = ByteCsvParser.of(UTF_8, new CsvParserSettings());
+
+        assertNull(parser.parse(new ByteArrayInputStream("a,b\nc\"d\n".getBytes(UTF_8)), builder));
+        assertTrue(isDiscarded.get());
+    }
+
+    @Test
+    @SuppressWarnings("ConstantConditions")
+    void parseLoneCarriageReturnNotSupported() throws IOException {
+        CsvParserSettings settings = new CsvParserSettings();
+        settings.getFormat().setLineSeparator("\r\n");
+        @Nullable ByteCsvParser parser = ByteCsvParser.of(UTF_8, settings);
+        assertNull(parser.parse(
+                new ByteArrayInputStream("a\rb\r\n".getBytes(UTF_8)), CsvRowStorageBuilder.of(CsvCellStorage.ARRAY)));
+    }
+
+    @Test
+    @SuppressWarnings("ConstantConditions")
+    void parseTooLongCellNotSupported() throws IOException {
+        CsvParserSettings settings = new CsvParserSettings();
+        settings.setMaxCharsPerColumn(3);
+        @Nullable ByteCsvParser parser = ByteCsvParser.of(UTF_8, settings);
+        assertNull(parser.parse(
+                new ByteArrayInputStream("abcd".getBytes(UTF_8)), CsvRowStorageBuilder.of(CsvCellStorage.ARRAY)));
+    }
+
+    @Test
+    void settingsNotSupported(@TempDir Path directory) throws IOException {
+        Path path = Files.writeString(directory.resolve("test.csv"), "\"a\",b\n");
+        assertTrue(ByteCsvParser.isSupported(path, UTF_8, new CsvParserSettings()));
+
+        CsvParserSettings settings = new CsvParserSettings();
+        settings.setKeepQuotes(true);
+        assertFalse(ByteCsvParser.isSupported(path, UTF_8, settings));
+    }
+
+    @Test
+    void formatNotSupported() {
+        CsvParserSettings settings = new CsvParserSettings();
+        settings.getFormat().setQuoteEscape('\\');
+        assertNull(ByteCsvParser.of(UTF_8, settings));
+
+        settings = new CsvParserSettings();
+        settings.getFormat().setDelimiter("||");
+        assertNull(ByteCsvParser.of(UTF_8, settings));
+
+        settings = new CsvParserSettings();
+        settings.getFormat().setLineSeparator("\r");
+        assertNull(ByteCsvParser.of(UTF_8, settings));
+    }
+}
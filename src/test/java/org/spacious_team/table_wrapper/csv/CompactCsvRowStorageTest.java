@@ -0,0 +1,123 @@
+/*
+ * Table Wrapper CSV Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.csv;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.spacious_team.table_wrapper.api.TableCellAddress;
+
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompactCsvRowStorageTest {
+
+    @SuppressWarnings("ConstantConditions")
+    static final String[][] ROWS = new String[][]{
+            {"00", null, "", "03"},
+            {},
+            {null},
+            {"30", "long cell value"},
+            {"40"}
+    };
+
+    static CsvRowStorage createStorage(int segmentSize) {
+        CompactCsvRowStorage.Builder builder = new CompactCsvRowStorage.Builder(segmentSize);
+        for (String[] row : ROWS) {
+            builder.append(row);
+        }
+        return builder.build();
+    }
+
+    static void assertCellValues(CsvRowStorage storage) {
+        for (int i = 0; i < ROWS.length; i++) {
+            for (int j = 0; j < ROWS[i].length; j++) {
+                assertEquals(ROWS[i][j], storage.getCellValue(i, j));
+            }
+            assertNull(storage.getCellValue(i, -1));
+            assertNull(storage.getCellValue(i, ROWS[i].length));
+        }
+        assertNull(storage.getCellValue(-1, 0));
+        assertNull(storage.getCellValue(ROWS.length, 0));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 8, CompactCsvRowStorage.DEFAULT_SEGMENT_SIZE})
+    void getRow(int segmentSize) {
+        CsvRowStorage storage = createStorage(segmentSize);
+
+        for (int i = 0; i < ROWS.length; i++) {
+            assertArrayEquals(ROWS[i], storage.getRow(i));
+        }
+        assertNull(storage.getRow(-1));
+        assertNull(storage.getRow(ROWS.length));
+        assertEquals(ROWS.length - 1, storage.getLastRowNum());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 8, CompactCsvRowStorage.DEFAULT_SEGMENT_SIZE})
+    void getCellValue(int segmentSize) {
+        assertCellValues(createStorage(segmentSize));
+        assertCellValues(new ArrayCsvRowStorage(ROWS));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, CompactCsvRowStorage.DEFAULT_SEGMENT_SIZE})
+    void findByValue(int segmentSize) {
+        CsvRowStorage storage = createStorage(segmentSize);
+
+        assertEquals(TableCellAddress.of(0, 2), storage.find("", 0, 5, 0, 5));
+        assertEquals(TableCellAddress.of(0, 1), storage.find(null, 0, 5, 0, 5));
+        assertEquals(TableCellAddress.of(2, 0), storage.find(null, 1, 5, 0, 5));
+        assertEquals(TableCellAddress.of(3, 1), storage.find("long cell value", 0, 5, 0, 5));
+        assertEquals(TableCellAddress.of(4, 0), storage.find(40, 0, 5, 0, 5));
+        assertSame(TableCellAddress.NOT_FOUND, storage.find("long cell", 0, 5, 0, 5));
+        assertSame(TableCellAddress.NOT_FOUND, storage.find("00", 1, 5, 0, 5));
+        assertSame(TableCellAddress.NOT_FOUND, storage.find("03", 0, 5, 0, 3));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, CompactCsvRowStorage.DEFAULT_SEGMENT_SIZE})
+    void findByPredicate(int segmentSize) {
+        CsvRowStorage storage = createStorage(segmentSize);
+
+        assertEquals(TableCellAddress.of(3, 1),
+                storage.find(0, 5, 0, 5, cell -> cell != null && cell.startsWith("long")));
+        assertEquals(TableCellAddress.of(0, 3),
+                storage.find(Integer.MIN_VALUE, Integer.MAX_VALUE, 2, Integer.MAX_VALUE, "03"::equals));
+        assertSame(TableCellAddress.NOT_FOUND,
+                storage.find(0, 5, 0, 5, "xyz"::equals));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 2, Integer.MAX_VALUE})
+    void findByPredicateInParallel(int parallelThreshold) {
+        CsvRowStorage storage = createStorage(CompactCsvRowStorage.DEFAULT_SEGMENT_SIZE);
+
+        assertEquals(TableCellAddress.of(0, 1),
+                storage.find(0, 5, 0, 5, Objects::isNull, parallelThreshold));
+        assertEquals(TableCellAddress.of(2, 0),
+                storage.find(1, 5, 0, 5, Objects::isNull, parallelThreshold));
+        assertEquals(TableCellAddress.of(3, 0),
+                storage.find(Integer.MIN_VALUE, Integer.MAX_VALUE, 0, 1,
+                        cell -> cell != null && cell.length() == 2 && cell.charAt(0) > '0', parallelThreshold));
+        assertSame(TableCellAddress.NOT_FOUND,
+                storage.find(0, 5, 0, 5, "xyz"::equals, parallelThreshold));
+    }
+}
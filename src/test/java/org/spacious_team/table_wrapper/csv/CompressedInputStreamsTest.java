@@ -0,0 +1,120 @@
+/*
+ * Table Wrapper CSV Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.csv;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompressedInputStreamsTest {
+
+    static final byte[] DATA = "a,b\n1,2\n".getBytes(UTF_8);
+
+    static byte[] gzip(byte[] data) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        }
+        return out.toByteArray();
+    }
+
+    static byte[] zip(byte[] data) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(out)) {
+            zip.putNextEntry(new ZipEntry("dir/"));
+            zip.closeEntry();
+            zip.putNextEntry(new ZipEntry("dir/1.csv"));
+            zip.write(data);
+            zip.closeEntry();
+        }
+        return out.toByteArray();
+    }
+
+    @Test
+    void decompressIfCompressed() throws IOException {
+        assertArrayEquals(DATA, decompress(DATA));
+        assertArrayEquals(DATA, decompress(gzip(DATA)));
+        assertArrayEquals(DATA, decompress(zip(DATA)));
+        assertArrayEquals(new byte[0], decompress(new byte[0]));
+        assertArrayEquals(new byte[]{'P'}, decompress(new byte[]{'P'}));
+    }
+
+    private static byte[] decompress(byte[] bytes) throws IOException {
+        try (InputStream inputStream = CompressedInputStreams.decompressIfCompressed(new ByteArrayInputStream(bytes))) {
+            return inputStream.readAllBytes();
+        }
+    }
+
+    @Test
+    void zipWithoutFileEntry() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(out)) {
+            zip.putNextEntry(new ZipEntry("dir/"));
+            zip.closeEntry();
+        }
+
+        assertThrows(IOException.class, () -> decompress(out.toByteArray()));
+    }
+
+    @Test
+    void isCompressed() throws IOException {
+        Path path = Files.createTempFile("table-wrapper-csv-impl-test", ".csv.gz");
+        try {
+            Files.write(path, DATA);
+            assertFalse(CompressedInputStreams.isCompressed(path));
+            Files.write(path, gzip(DATA));
+            assertTrue(CompressedInputStreams.isCompressed(path));
+            Files.write(path, zip(DATA));
+            assertTrue(CompressedInputStreams.isCompressed(path));
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    void isCompressedChannel() throws IOException {
+        Path path = Files.createTempFile("table-wrapper-csv-impl-test", ".csv.gz");
+        try {
+            Files.write(path, gzip(DATA));
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                assertTrue(CompressedInputStreams.isCompressed(channel));
+                assertEquals(0, channel.position());
+            }
+            Files.write(path, new byte[]{0x1F});
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                assertFalse(CompressedInputStreams.isCompressed(channel));
+            }
+        } finally {
+            Files.delete(path);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Table Wrapper CSV Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.csv;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class CountingInputStreamTest {
+
+    @Test
+    void getCount() throws IOException {
+        CountingInputStream is = new CountingInputStream(new ByteArrayInputStream(new byte[10]));
+
+        assertEquals(0, is.getCount());
+        is.read();
+        assertEquals(1, is.getCount());
+        assertEquals(4, is.read(new byte[4], 0, 4));
+        assertEquals(5, is.getCount());
+        assertEquals(2, is.skip(2));
+        assertEquals(7, is.getCount());
+        assertEquals(3, is.read(new byte[8]));
+        assertEquals(10, is.getCount());
+        assertEquals(-1, is.read());
+        assertEquals(-1, is.read(new byte[8]));
+        assertEquals(10, is.getCount());
+    }
+
+    @Test
+    void markNotSupported() {
+        assertFalse(new CountingInputStream(new ByteArrayInputStream(new byte[0])).markSupported());
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Table Wrapper CSV Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.csv;
+
+import org.junit.jupiter.api.Test;
+import org.spacious_team.table_wrapper.api.TableCellAddress;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.spacious_team.table_wrapper.csv.CsvBlockBloomFilter.BLOCK_SIZE;
+
+class CsvBlockBloomFilterTest {
+
+    final String[][] table = createTable(2 * BLOCK_SIZE + 100);
+    final CsvRowStorage rows = new ArrayCsvRowStorage(table);
+    final CsvBlockBloomFilter filter = CsvBlockBloomFilter.of(rows);
+
+    @SuppressWarnings("ConstantConditions")
+    private static String[][] createTable(int rowCount) {
+        String[][] table = new String[rowCount][];
+        for (int row = 0; row < rowCount; row++) {
+            table[row] = new String[]{"a" + row, (row % 7 == 0) ? null : "b" + (row % 100), "c" + (row / 500)};
+        }
+        return table;
+    }
+
+    @Test
+    void findSameAsHelper() {
+        int[] rowLimits = {-1, 0, 1, BLOCK_SIZE - 1, BLOCK_SIZE, BLOCK_SIZE + 1, 2 * BLOCK_SIZE + 50,
+                table.length, table.length + 1, Integer.MAX_VALUE};
+        String[] values = {"a0", "a1023", "a1024", "a2100", "b7", "b99", "c0", "c2", "c4", "x"};
+        for (String value : values) {
+            for (int startRow : rowLimits) {
+                for (int endRow : rowLimits) {
+                    for (int startColumn = -1; startColumn <= 3; startColumn++) {
+                        assertEquals(
+                                CsvTableHelper.find(table, value, startRow, endRow, startColumn, 4),
+                                filter.find(rows, value, startRow, endRow, startColumn, 4));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void findLimits() {
+        assertEquals(TableCellAddress.of(2 * BLOCK_SIZE, 0),
+                filter.find(rows, "a" + 2 * BLOCK_SIZE, Integer.MIN_VALUE, Integer.MAX_VALUE, 0, Integer.MAX_VALUE));
+        assertEquals(TableCellAddress.NOT_FOUND,
+                filter.find(rows, "a1", 2, Integer.MAX_VALUE, Integer.MIN_VALUE, Integer.MAX_VALUE));
+    }
+
+    @Test
+    void getScannedRowCount() {
+        assertEquals(BLOCK_SIZE, filter.getScannedRowCount("a1", 0, table.length));
+        assertEquals(BLOCK_SIZE - 2, filter.getScannedRowCount("a1", 2, table.length));
+        assertEquals(100, filter.getScannedRowCount("a" + 2 * BLOCK_SIZE, 0, Integer.MAX_VALUE));
+        assertEquals(table.length, filter.getScannedRowCount("b1", 0, table.length));
+        assertTrue(filter.getScannedRowCount("x", 0, table.length) < table.length);
+    }
+
+    @Test
+    void emptyStorage() {
+        CsvRowStorage emptyRows = new ArrayCsvRowStorage(new String[0][]);
+        CsvBlockBloomFilter emptyFilter = CsvBlockBloomFilter.of(emptyRows);
+        assertEquals(TableCellAddress.NOT_FOUND, emptyFilter.find(emptyRows, "x", 0, 10, 0, 10));
+        assertEquals(0, emptyFilter.getScannedRowCount("x", 0, 10));
+    }
+}
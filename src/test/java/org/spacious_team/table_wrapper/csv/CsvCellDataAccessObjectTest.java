@@ -26,6 +26,9 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.spacious_team.table_wrapper.api.InstantParser;
 
+import java.math.BigDecimal;
+import java.time.Instant;
+
 import static java.time.ZoneOffset.UTC;
 import static nl.jqno.equalsverifier.Warning.STRICT_INHERITANCE;
 import static org.junit.jupiter.api.Assertions.*;
@@ -64,6 +67,32 @@ class CsvCellDataAccessObjectTest {
         assertEquals("test", dao.getValue("test"));
     }
 
+    @Test
+    void getIntValue() {
+        assertEquals(-1234, dao.getIntValue("-1 234"));
+        assertEquals(Integer.MAX_VALUE, dao.getIntValue(String.valueOf(Integer.MAX_VALUE)));
+    }
+
+    @Test
+    void getLongValue() {
+        assertEquals(-1234567890123L, dao.getLongValue("-1 234 567 890 123"));
+        assertEquals(12, dao.getLongValue("\u00A012"));
+    }
+
+    @Test
+    void getDoubleValue() {
+        assertEquals(-1234.5, dao.getDoubleValue("-1 234,5"));
+        assertEquals(0.1, dao.getDoubleValue("0.1"));
+        assertEquals(1000.0, dao.getDoubleValue("1e3"));
+    }
+
+    @Test
+    void getBigDecimalValue() {
+        assertEquals(new BigDecimal("1234.50"), dao.getBigDecimalValue("1 234,50"));
+        assertEquals(new BigDecimal("-0.01"), dao.getBigDecimalValue("-0.01"));
+        assertEquals(new BigDecimal("123456789012345678901.5"), dao.getBigDecimalValue("123456789012345678901.5"));
+    }
+
     @Test
     void getInstantValueNull() {
         assertThrows(NullPointerException.class, () -> dao.getInstantValue(null));
@@ -79,10 +108,34 @@ class CsvCellDataAccessObjectTest {
         verify(instantParser).parseInstant(actual);
     }
 
+    @Test
+    void getCachedInstant() {
+        String actual = "2020-01-01";
+        when(instantParser.parseInstant(actual)).thenReturn(Instant.EPOCH);
+
+        assertEquals(Instant.EPOCH, dao.getInstantValue(actual));
+        assertEquals(Instant.EPOCH, dao.getInstantValue(actual));
+
+        verify(instantParser, times(1)).parseInstant(actual);
+    }
+
+    @Test
+    void getNotCachedInstant() {
+        String actual = "2020-01-01";
+        CsvCellDataAccessObject dao = CsvCellDataAccessObject.of(instantParser, 0);
+        when(instantParser.parseInstant(actual)).thenReturn(Instant.EPOCH);
+
+        dao.getInstantValue(actual);
+        dao.getInstantValue(actual);
+
+        verify(instantParser, times(2)).parseInstant(actual);
+    }
+
     @Test
     void testEqualsAndHashCode() {
         EqualsVerifier
                 .forClass(CsvCellDataAccessObject.class)
+                .withIgnoredFields("instantCache")
                 .suppress(STRICT_INHERITANCE) // no subclass for test
                 .verify();
     }
@@ -94,4 +147,11 @@ class CsvCellDataAccessObjectTest {
                         "dateTimeFormatter=null, defaultDate=null, defaultTime=00:00, defaultZoneId=Z))",
                 CsvCellDataAccessObject.of(instantParser).toString());
     }
+
+    @Test
+    void testToStringWithCacheSize() {
+        InstantParser instantParser = InstantParser.builder().defaultZoneId(UTC).build();
+        assertEquals(CsvCellDataAccessObject.of(instantParser).toString(),
+                CsvCellDataAccessObject.of(instantParser, 16).toString());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,76 @@
+/*
+ * Table Wrapper CSV Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.csv;
+
+import com.univocity.parsers.csv.CsvFormat;
+import com.univocity.parsers.csv.CsvParserSettings;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvFormatCacheTest {
+
+    @Test
+    @SuppressWarnings("ConstantConditions")
+    void getAndPut() {
+        CsvFormatCache cache = new CsvFormatCache();
+        CsvFormat format = new CsvFormat();
+        format.setDelimiter(';');
+
+        assertNull(cache.get("source"));
+        cache.put("source", format);
+        format.setDelimiter('|');
+        @Nullable CsvFormat cachedFormat = cache.get("source");
+
+        assertEquals(';', cachedFormat.getDelimiter());
+        assertNotSame(cachedFormat, cache.get("source"));
+        assertEquals(1, cache.size());
+        assertNull(cache.get("other source"));
+    }
+
+    @Test
+    void removeAndClear() {
+        CsvFormatCache cache = new CsvFormatCache();
+        cache.put("source 1", new CsvFormat());
+        cache.put("source 2", new CsvFormat());
+
+        cache.remove("source 1");
+        assertNull(cache.get("source 1"));
+        assertEquals(1, cache.size());
+        cache.clear();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void applyTo() {
+        CsvFormatCache cache = new CsvFormatCache();
+        CsvParserSettings settings = CsvReportPage.getDefaultCsvParserSettings();
+        assertSame(settings, cache.applyTo("source", settings));
+
+        CsvFormat format = new CsvFormat();
+        format.setDelimiter(';');
+        cache.put("source", format);
+        CsvParserSettings fixedFormatSettings = cache.applyTo("source", settings);
+
+        assertEquals(';', fixedFormatSettings.getFormat().getDelimiter());
+        assertFalse(CsvFormatCache.isFormatDetectionEnabled(fixedFormatSettings));
+        assertTrue(CsvFormatCache.isFormatDetectionEnabled(settings));
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Table Wrapper CSV Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.csv;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvInstantCacheTest {
+
+    @ParameterizedTest
+    @CsvSource({"0, 0", "1, 1", "2, 2", "3, 4", "1000, 1024", "1024, 1024"})
+    void size(int size, int expectedSize) {
+        assertEquals(expectedSize, new CsvInstantCache(size).size());
+    }
+
+    @Test
+    void wrongSize() {
+        assertThrows(IllegalArgumentException.class, () -> new CsvInstantCache(-1));
+    }
+
+    @Test
+    void getAndPut() {
+        CsvInstantCache cache = new CsvInstantCache(16);
+        Instant instant = Instant.ofEpochSecond(1);
+
+        assertNull(cache.get("1970-01-01"));
+        cache.put("1970-01-01", instant);
+        assertSame(instant, cache.get("1970-01-01"));
+        assertNull(cache.get("1970-01-02"));
+    }
+
+    @Test
+    void evict() {
+        CsvInstantCache cache = new CsvInstantCache(1);
+        cache.put("1970-01-01", Instant.EPOCH);
+        cache.put("1970-01-02", Instant.MAX);
+
+        assertNull(cache.get("1970-01-01"));
+        assertSame(Instant.MAX, cache.get("1970-01-02"));
+    }
+
+    @Test
+    void disabled() {
+        CsvInstantCache cache = new CsvInstantCache(0);
+        cache.put("1970-01-01", Instant.EPOCH);
+
+        assertNull(cache.get("1970-01-01"));
+    }
+}
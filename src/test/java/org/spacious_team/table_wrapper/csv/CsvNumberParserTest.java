@@ -0,0 +1,73 @@
+/*
+ * Table Wrapper CSV Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.csv;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvNumberParserTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"0", "1", "-1", "+1", "123456789", "-9007199254740992", " 1 234 567 ",
+            "1\u00A0234", "1\u202F234", "\t12\r\n"})
+    void parseInteger(String value) {
+        long number = CsvNumberParser.parse(value);
+        String expected = value.replaceAll("[\\s\u00A0\u202F]", "");
+
+        assertTrue(CsvNumberParser.isInteger(number));
+        assertEquals(Long.parseLong(expected), CsvNumberParser.toLong(number));
+        assertEquals(Double.parseDouble(expected), CsvNumberParser.toDouble(number));
+        assertEquals(new BigDecimal(expected), CsvNumberParser.toBigDecimal(number));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"0.0", "0,5", "-0.5", "1.10", "12 345,67", "- 1.000001", "0.1", "0.3",
+            "123456789.123456789", "9007199254.740993"})
+    void parseDecimal(String value) {
+        long number = CsvNumberParser.parse(value);
+        String expected = value.replace(',', '.').replaceAll("\\s", "");
+
+        assertFalse(CsvNumberParser.isInteger(number));
+        assertEquals(new BigDecimal(expected), CsvNumberParser.toBigDecimal(number));
+        if (CsvNumberParser.isExactDouble(number)) {
+            assertEquals(Double.parseDouble(expected), CsvNumberParser.toDouble(number));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", " ", "-", "+", "-0", "1.", ".1", "1.2.3", "1,234.5", "1-", "--1", "1e3", "NaN",
+            "Infinity", "0x10", "abc", "123456789012345678901"})
+    void notParsed(String value) {
+        assertEquals(CsvNumberParser.NOT_PARSED, CsvNumberParser.parse(value));
+    }
+
+    @Test
+    void isExactDouble() {
+        assertTrue(CsvNumberParser.isExactDouble(CsvNumberParser.parse("9007199254740992")));
+        assertFalse(CsvNumberParser.isExactDouble(CsvNumberParser.parse("9007199254740993")));
+        assertTrue(CsvNumberParser.isExactDouble(CsvNumberParser.parse("0.0000000000000000000001")));
+        assertFalse(CsvNumberParser.isExactDouble(CsvNumberParser.parse("0.00000000000000000000001")));
+        assertFalse(CsvNumberParser.isExactDouble(CsvNumberParser.NOT_PARSED));
+    }
+}
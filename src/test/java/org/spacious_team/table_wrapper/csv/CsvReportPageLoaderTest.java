@@ -0,0 +1,128 @@
+/*
+ * Table Wrapper CSV Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.csv;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedConstruction;
+import org.spacious_team.table_wrapper.csv.CsvReportPageLoader.InputStreamSupplier;
+import org.spacious_team.table_wrapper.csv.CsvReportPageLoader.Result;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CsvReportPageLoaderTest {
+
+    @Test
+    @SuppressWarnings("ConstantConditions")
+    void load() throws IOException, InterruptedException {
+        Path path1 = Files.createTempFile("table-wrapper-csv-impl-test", ".csv");
+        Path path2 = Files.createTempFile("table-wrapper-csv-impl-test", ".csv");
+        Path notExistingPath = path2.resolveSibling(path2.getFileName() + ".not-exists");
+        try {
+            Files.writeString(path1, "1,2");
+            Files.writeString(path2, "3,4\n5,6");
+            List<Result<Path>> results = CsvReportPageLoader.builder()
+                    .maxConcurrency(1)
+                    .build()
+                    .load(List.of(path1, notExistingPath, path2));
+
+            assertEquals(3, results.size());
+            assertSame(path1, results.get(0).getSource());
+            assertTrue(results.get(0).isSuccess());
+            assertEquals("2", results.get(0).getReportPage().getRow(0).getCell(1).getValue());
+            assertSame(notExistingPath, results.get(1).getSource());
+            assertFalse(results.get(1).isSuccess());
+            assertInstanceOf(NoSuchFileException.class, results.get(1).getException());
+            assertEquals(1, results.get(2).getReportPage().getLastRowNum());
+        } finally {
+            Files.delete(path1);
+            Files.delete(path2);
+        }
+    }
+
+    @Test
+    @SuppressWarnings("ConstantConditions")
+    void loadInputStreams() throws IOException, InterruptedException {
+        InputStream inputStream = spy(new ByteArrayInputStream("1,2".getBytes(UTF_8)));
+        InputStreamSupplier failingSupplier = () -> {
+            throw new IOException("test");
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<Result<InputStreamSupplier>> results = CsvReportPageLoader.builder()
+                    .executor(executor)
+                    .build()
+                    .loadInputStreams(List.of(() -> inputStream, failingSupplier));
+
+            assertTrue(results.get(0).isSuccess());
+            assertNull(results.get(0).getException());
+            verify(inputStream).close();
+            assertFalse(results.get(1).isSuccess());
+            assertNull(results.get(1).getReportPage());
+            assertEquals("test", results.get(1).getException().getMessage());
+            assertFalse(executor.isShutdown());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void wrongMaxConcurrency() {
+        CsvReportPageLoader loader = CsvReportPageLoader.builder()
+                .maxConcurrency(0)
+                .build();
+        assertThrows(IllegalArgumentException.class, () -> loader.load(List.of()));
+    }
+
+    @Test
+    void closePagesOnFailure() throws IOException {
+        AtomicInteger submittedTasks = new AtomicInteger();
+        Executor executor = task -> {
+            if (submittedTasks.getAndIncrement() > 0) {
+                throw new RejectedExecutionException();
+            }
+            task.run();
+        };
+        CsvReportPageLoader loader = CsvReportPageLoader.builder()
+                .executor(executor)
+                .build();
+        InputStreamSupplier inputStream = () -> new ByteArrayInputStream("a,b".getBytes(UTF_8));
+        try (MockedConstruction<CsvReportPage> reportPages = mockConstruction(CsvReportPage.class)) {
+            assertThrows(RejectedExecutionException.class,
+                    () -> loader.loadInputStreams(List.of(inputStream, inputStream)));
+
+            assertEquals(1, reportPages.constructed().size());
+            verify(reportPages.constructed().get(0)).close();
+        }
+    }
+}
@@ -18,12 +18,18 @@
 
 package org.spacious_team.table_wrapper.csv;
 
+import com.univocity.parsers.csv.CsvParserSettings;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.spacious_team.table_wrapper.api.TableCellAddress;
+import org.spacious_team.table_wrapper.api.TableCellRange;
+import org.spacious_team.table_wrapper.csv.CsvMetricsListener.FindMethod;
+import org.spacious_team.table_wrapper.csv.CsvTableTest.TableHeader;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
@@ -31,10 +37,16 @@ import java.io.InputStream;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
 class CsvReportPageTest {
@@ -55,6 +67,172 @@ class CsvReportPageTest {
         }
     }
 
+    @ParameterizedTest
+    @ValueSource(strings = {"a,\"b\"\n1,2", "#comment\na,\"b\"\n1,2"})
+    @SuppressWarnings("ConstantConditions")
+    void createWithByteParsing(String csv) throws IOException {
+        Path path = Files.createTempFile("table-wrapper-csv-impl-test", ".csv");
+        try {
+            Files.writeString(path, csv);
+            CsvReportPageOptions options = CsvReportPageOptions.builder()
+                    .byteParsingEnabled(true)
+                    .build();
+            CsvReportPage reportPage = new CsvReportPage(path, UTF_8, CsvReportPage.getDefaultCsvParserSettings(), options);
+
+            assertEquals(1, reportPage.getLastRowNum());
+            assertEquals("b", reportPage.getRow(0).getCell(1).getValue());
+            assertEquals("2", reportPage.getRow(1).getCell(1).getValue());
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    @SuppressWarnings("ConstantConditions")
+    void createWithSelectedColumns(boolean byteParsingEnabled) throws IOException {
+        Path path = Files.createTempFile("table-wrapper-csv-impl-test", ".csv");
+        try {
+            Files.writeString(path, "a,b,c,d\n1,2,3,4");
+            CsvReportPageOptions options = CsvReportPageOptions.builder()
+                    .selectedColumns(new int[]{1, 3})
+                    .byteParsingEnabled(byteParsingEnabled)
+                    .build();
+            CsvReportPage reportPage = new CsvReportPage(path, UTF_8, CsvReportPage.getDefaultCsvParserSettings(), options);
+
+            assertEquals(1, reportPage.getLastRowNum());
+            assertNull(reportPage.getRow(0).getCellValue(0));
+            assertEquals("b", reportPage.getRow(0).getCellValue(1));
+            assertNull(reportPage.getRow(1).getCellValue(2));
+            assertEquals("4", reportPage.getRow(1).getCellValue(3));
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    @SuppressWarnings("ConstantConditions")
+    void selectedColumnsAreCopied() {
+        int[] selectedColumns = {1, 3};
+        CsvReportPageOptions options = CsvReportPageOptions.builder()
+                .selectedColumns(selectedColumns)
+                .build();
+
+        selectedColumns[0] = 0;
+        options.getSelectedColumns()[1] = 0;
+
+        assertArrayEquals(new int[]{1, 3}, options.getSelectedColumns());
+        assertNull(CsvReportPageOptions.DEFAULT.getSelectedColumns());
+    }
+
+    @Test
+    @SuppressWarnings("ConstantConditions")
+    void createWithFormatCache() throws IOException {
+        CsvFormatCache formatCache = new CsvFormatCache();
+        CsvReportPageOptions options = CsvReportPageOptions.builder()
+                .formatCache(formatCache)
+                .formatSourceId("source")
+                .build();
+        new CsvReportPage(new ByteArrayInputStream("a;b;c\n1;2;3\n4;5;6".getBytes(UTF_8)),
+                UTF_8, CsvReportPage.getDefaultCsvParserSettings(), options);
+
+        assertEquals(';', formatCache.get("source").getDelimiter());
+
+        CsvReportPage reportPage = new CsvReportPage(new ByteArrayInputStream("a,b;c,d\n1,2;3,4".getBytes(UTF_8)),
+                UTF_8, CsvReportPage.getDefaultCsvParserSettings(), options);
+
+        assertEquals("a,b", reportPage.getRow(0).getCell(0).getValue());
+        assertEquals("c,d", reportPage.getRow(0).getCell(1).getValue());
+    }
+
+    @Test
+    @SuppressWarnings("ConstantConditions")
+    void createWithSnapshotCache(@TempDir Path directory) throws IOException {
+        Path path = directory.resolve("report.csv");
+        Files.writeString(path, "a,b\n1,2");
+        FileTime lastModifiedTime = Files.getLastModifiedTime(path);
+        CsvSnapshotCache snapshotCache = new CsvSnapshotCache(directory.resolve("cache"));
+        CsvReportPageOptions options = CsvReportPageOptions.builder()
+                .snapshotCache(snapshotCache)
+                .build();
+        CsvParserSettings settings = CsvReportPage.getDefaultCsvParserSettings();
+        new CsvReportPage(path, UTF_8, settings, options).close();
+
+        Files.writeString(path, "c,d\n3,4"); // same size and modification time, snapshot is used
+        Files.setLastModifiedTime(path, lastModifiedTime);
+        try (CsvReportPage reportPage = new CsvReportPage(path, UTF_8, settings, options)) {
+            assertEquals("b", reportPage.getRow(0).getCell(1).getValue());
+            assertEquals(TableCellAddress.of(1, 1), reportPage.find("2"));
+        }
+
+        Files.setLastModifiedTime(path, FileTime.fromMillis(lastModifiedTime.toMillis() + 1000));
+        try (CsvReportPage reportPage = new CsvReportPage(path, UTF_8, settings, options)) {
+            assertEquals("d", reportPage.getRow(0).getCell(1).getValue());
+        }
+    }
+
+    @Test
+    @SuppressWarnings("ConstantConditions")
+    void writeAndOpenSnapshot(@TempDir Path directory) throws IOException {
+        Path snapshot = directory.resolve("report.snapshot");
+        CsvReportPage reportPage = new CsvReportPage(new String[][]{{"a", null}, {"1", "2"}});
+
+        reportPage.writeSnapshot(snapshot);
+
+        try (CsvReportPage snapshotReportPage = CsvReportPage.openSnapshot(snapshot)) {
+            assertEquals(1, snapshotReportPage.getLastRowNum());
+            assertEquals("a", snapshotReportPage.getRow(0).getCell(0).getValue());
+            assertNull(snapshotReportPage.getRow(0).getCell(1).getValue());
+            assertEquals(TableCellAddress.of(1, 1), snapshotReportPage.find("2"));
+        }
+    }
+
+    @Test
+    @SuppressWarnings("ConstantConditions")
+    void createFromCompressedFile() throws IOException {
+        Path path = Files.createTempFile("table-wrapper-csv-impl-test", ".csv.gz");
+        try {
+            for (byte[] bytes : new byte[][]{
+                    CompressedInputStreamsTest.gzip(CompressedInputStreamsTest.DATA),
+                    CompressedInputStreamsTest.zip(CompressedInputStreamsTest.DATA)}) {
+                Files.write(path, bytes);
+                CsvReportPage reportPage = new CsvReportPage(path);
+
+                assertEquals(1, reportPage.getLastRowNum());
+                assertEquals("2", reportPage.getRow(1).getCell(1).getValue());
+            }
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    @SuppressWarnings("ConstantConditions")
+    void createFromCompressedInputStream() throws IOException {
+        InputStream is = new ByteArrayInputStream(CompressedInputStreamsTest.gzip(CompressedInputStreamsTest.DATA));
+        CsvReportPage reportPage = new CsvReportPage(is);
+
+        assertEquals(1, reportPage.getLastRowNum());
+        assertEquals("2", reportPage.getRow(1).getCell(1).getValue());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"UTF-8", "Windows-1251"})
+    @SuppressWarnings("ConstantConditions")
+    void createFromFileWithCharset(String charsetName) throws IOException {
+        String expected = "Текст на UTF-8";
+        Charset charset = Charset.forName(charsetName);
+        Path path = Files.createTempFile("table-wrapper-csv-impl-test.csv", "csv");
+        try {
+            Files.writeString(path, expected + ",", charset);
+            CsvReportPage reportPage = new CsvReportPage(path, charset, CsvReportPage.getDefaultCsvParserSettings());
+
+            assertEquals(expected, reportPage.getRow(0).getCell(0).getValue());
+        } finally {
+            Files.delete(path);
+        }
+    }
+
     @Test
     void createFomInputStream_inputStreamNotClosed() throws IOException {
         ByteArrayInputStream is = spy(new ByteArrayInputStream(new byte[]{}));
@@ -86,6 +264,35 @@ class CsvReportPageTest {
         assertEquals(expected, actual);
     }
 
+    @ParameterizedTest
+    @EnumSource(CsvCellStorage.class)
+    void createWithCellStorage(CsvCellStorage cellStorage) throws IOException {
+        InputStream is = new ByteArrayInputStream("11,12\n21,,23".getBytes(UTF_8));
+        CsvReportPageOptions options = CsvReportPageOptions.builder()
+                .cellStorage(cellStorage)
+                .build();
+        CsvReportPage reportPage = new CsvReportPage(is, UTF_8, CsvReportPage.getDefaultCsvParserSettings(), options);
+
+        assertEquals(CsvTableRow.of(new String[]{"11", "12"}, 0), reportPage.getRow(0));
+        assertEquals(CsvTableRow.of(new String[]{"21", null, "23"}, 1), reportPage.getRow(1));
+        assertEquals(TableCellAddress.of(1, 2), reportPage.find("23", 0, 2, 0, 3));
+        assertEquals(1, reportPage.getLastRowNum());
+    }
+
+    @Test
+    void closeOffHeapPage() throws IOException {
+        InputStream is = new ByteArrayInputStream("11,12".getBytes(UTF_8));
+        CsvReportPageOptions options = CsvReportPageOptions.builder()
+                .cellStorage(CsvCellStorage.OFF_HEAP)
+                .build();
+        CsvReportPage reportPage = new CsvReportPage(is, UTF_8, CsvReportPage.getDefaultCsvParserSettings(), options);
+        assertEquals(CsvTableRow.of(new String[]{"11", "12"}, 0), reportPage.getRow(0));
+
+        reportPage.close();
+
+        assertThrows(IllegalStateException.class, () -> reportPage.getRow(0));
+    }
+
     @Test
     void getRow() {
         String[][] rows = new String[][] {
@@ -100,6 +307,41 @@ class CsvReportPageTest {
         assertNull(reportPage.getRow(-1));
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 64})
+    void getCachedRow(int rowCacheSize) {
+        String[][] rows = new String[][] {
+                {"11", "12"},
+                {"21", "22"}
+        };
+        CsvReportPageOptions options = CsvReportPageOptions.builder()
+                .rowCacheSize(rowCacheSize)
+                .build();
+        CsvReportPage reportPage = new CsvReportPage(new ArrayCsvRowStorage(rows), options);
+
+        @Nullable CsvTableRow row = reportPage.getRow(1);
+        assertSame(row, reportPage.getRow(1));
+        //noinspection ConstantConditions
+        assertSame(row.getCell(0), reportPage.getRow(1).getCell(0));
+        assertEquals(CsvTableRow.of(rows[0], 0), reportPage.getRow(0));
+        assertEquals(CsvTableRow.of(rows[1], 1), reportPage.getRow(1));
+        assertNull(reportPage.getRow(2));
+    }
+
+    @Test
+    void getNotCachedRow() {
+        String[][] rows = new String[][] {
+                {"11", "12"}
+        };
+        CsvReportPageOptions options = CsvReportPageOptions.builder()
+                .rowCacheSize(0)
+                .build();
+        CsvReportPage reportPage = new CsvReportPage(new ArrayCsvRowStorage(rows), options);
+
+        assertNotSame(reportPage.getRow(0), reportPage.getRow(0));
+        assertEquals(reportPage.getRow(0), reportPage.getRow(0));
+    }
+
     @ParameterizedTest
     @MethodSource("getRowsAndCount")
     void getLastRowNum(String rows, int expectedRowCount) throws IOException {
@@ -140,6 +382,28 @@ class CsvReportPageTest {
                 reportPage.find("xyz", 0, 2, 0, 2));
     }
 
+    @Test
+    void findByValueWithIndex() throws IOException {
+        InputStream is = new ByteArrayInputStream("11,12\n21,22,12".getBytes(UTF_8));
+        CsvReportPageOptions options = CsvReportPageOptions.builder()
+                .valueIndexEnabled(true)
+                .build();
+        CsvReportPage reportPage = new CsvReportPage(is, UTF_8, CsvReportPage.getDefaultCsvParserSettings(), options);
+
+        assertEquals(TableCellAddress.of(0, 1),
+                reportPage.find("12", 0, 2, 0, 3));
+        assertEquals(TableCellAddress.of(1, 2),
+                reportPage.find("12", 1, 2, 0, 3));
+        assertEquals(TableCellAddress.of(1, 2),
+                reportPage.find("12", 0, 2, 2, 3));
+        assertEquals(TableCellAddress.of(1, 0),
+                reportPage.find(21, 0, 2, 0, 3));
+        assertEquals(TableCellAddress.NOT_FOUND,
+                reportPage.find("12", 0, 1, 2, 3));
+        assertEquals(TableCellAddress.NOT_FOUND,
+                reportPage.find("xyz", 0, 2, 0, 3));
+    }
+
     @Test
     void findByPrefix() {
         String[][] rows = new String[][] {
@@ -157,4 +421,124 @@ class CsvReportPageTest {
         assertEquals(TableCellAddress.NOT_FOUND,
                 reportPage.find(0, 2, 0, 2, "xyz"::equals));
     }
-}
\ No newline at end of file
+
+    @Test
+    void findByPrefixWithIndex() throws IOException {
+        InputStream is = new ByteArrayInputStream("Section 1,x\n Total 1,Section 2\nTOTAL 2,y".getBytes(UTF_8));
+        CsvReportPageOptions options = CsvReportPageOptions.builder()
+                .prefixIndexEnabled(true)
+                .build();
+        CsvReportPage reportPage = new CsvReportPage(is, UTF_8, CsvReportPage.getDefaultCsvParserSettings(), options);
+
+        assertEquals(TableCellAddress.of(0, 0),
+                reportPage.findByPrefix("section", 0, 3, 0, 2));
+        assertEquals(TableCellAddress.of(1, 1),
+                reportPage.findByPrefix("section", 1, 3, 0, 2));
+        assertEquals(TableCellAddress.of(1, 0),
+                reportPage.findByPrefix(" total ", 0, 3, 0, 2));
+        assertEquals(TableCellAddress.of(2, 0),
+                reportPage.findByPrefix("Total 2", 0, 3, 0, 2));
+        assertEquals(TableCellAddress.NOT_FOUND,
+                reportPage.findByPrefix("total", 0, 3, 1, 2));
+        assertEquals(TableCellAddress.NOT_FOUND,
+                reportPage.findByPrefix("xyz", 0, 3, 0, 2));
+        assertEquals(TableCellAddress.NOT_FOUND,
+                reportPage.findByPrefix("", 0, 3, 0, 2));
+    }
+
+    @Test
+    void metricsListener() throws IOException {
+        byte[] bytes = "a,b\nc,d,e\nf".getBytes(UTF_8);
+        InMemoryCsvMetrics metrics = new InMemoryCsvMetrics();
+        CsvReportPageOptions options = CsvReportPageOptions.builder()
+                .metricsListener(metrics)
+                .build();
+        CsvReportPage reportPage = new CsvReportPage(
+                new ByteArrayInputStream(bytes), UTF_8, CsvReportPage.getDefaultCsvParserSettings(), options);
+
+        assertEquals(1, metrics.getParseCount());
+        assertEquals(bytes.length, metrics.getParsedBytes());
+        assertEquals(3, metrics.getParsedRows());
+        assertEquals(6, metrics.getParsedCells());
+
+        reportPage.find("d", 0, 3, 0, 3);
+        reportPage.find("x", 1, 3, 0, 3);
+        reportPage.find(0, 3, 0, 3, "c"::equals);
+        reportPage.find(0, 3, 0, 3, "x"::equals);
+
+        assertEquals(2, metrics.getFindCount(FindMethod.VALUE));
+        assertEquals(1, metrics.getFoundCount(FindMethod.VALUE));
+        assertEquals(2 + 2, metrics.getScannedRows(FindMethod.VALUE));
+        assertEquals(2, metrics.getFindCount(FindMethod.PREDICATE));
+        assertEquals(1, metrics.getFoundCount(FindMethod.PREDICATE));
+        assertEquals(2 + 3, metrics.getScannedRows(FindMethod.PREDICATE));
+    }
+
+    @Test
+    void metricsListenerWithIndex() throws IOException {
+        InMemoryCsvMetrics metrics = new InMemoryCsvMetrics();
+        CsvReportPageOptions options = CsvReportPageOptions.builder()
+                .valueIndexEnabled(true)
+                .prefixIndexEnabled(true)
+                .metricsListener(metrics)
+                .build();
+        CsvReportPage reportPage = new CsvReportPage(new ByteArrayInputStream("a,b\nc,d".getBytes(UTF_8)),
+                UTF_8, CsvReportPage.getDefaultCsvParserSettings(), options);
+
+        reportPage.find("d", 0, 2, 0, 2);
+        reportPage.findByPrefix("x", 0, 2, 0, 2);
+
+        assertEquals(1, metrics.getFindCount(FindMethod.VALUE_INDEX));
+        assertEquals(1, metrics.getFoundCount(FindMethod.VALUE_INDEX));
+        assertEquals(0, metrics.getScannedRows(FindMethod.VALUE_INDEX));
+        assertEquals(1, metrics.getFindCount(FindMethod.PREFIX_INDEX));
+        assertEquals(0, metrics.getFoundCount(FindMethod.PREFIX_INDEX));
+        assertEquals(0, metrics.getFindCount(FindMethod.VALUE));
+    }
+
+    @Test
+    void findWithBlockFilter() {
+        InMemoryCsvMetrics metrics = new InMemoryCsvMetrics();
+        CsvReportPageOptions options = CsvReportPageOptions.builder()
+                .blockFilterEnabled(true)
+                .metricsListener(metrics)
+                .build();
+        CsvReportPage reportPage = new CsvReportPage(new ByteArrayInputStream("a,b\nc,d\ne,f".getBytes(UTF_8)),
+                UTF_8, CsvReportPage.getDefaultCsvParserSettings(), options);
+
+        assertEquals(TableCellAddress.of(1, 1), reportPage.find("d", 0, 3, 0, 2));
+        assertEquals(TableCellAddress.NOT_FOUND, reportPage.find("a", 1, 3, 0, 2));
+        assertEquals(TableCellAddress.of(2, 0), reportPage.find("e", 0, 3, 0, 2));
+
+        assertEquals(3, metrics.getFindCount(FindMethod.BLOCK_FILTER));
+        assertEquals(2, metrics.getFoundCount(FindMethod.BLOCK_FILTER));
+        assertEquals(2 + 2 + 3, metrics.getScannedRows(FindMethod.BLOCK_FILTER));
+        assertEquals(0, metrics.getFindCount(FindMethod.VALUE));
+    }
+
+    @Test
+    void getTableCellRanges() {
+        String[][] rows = new String[][]{
+                {"Table 1"},
+                {"header", "1"},
+                {"data", "1", "2"},
+                {" total 1", "1"},
+                {"Table 2", "x"},
+                {"header"},
+                {"Total 2"}
+        };
+        CsvReportPage reportPage = new CsvReportPage(rows);
+        List<TableCellRange> ranges = reportPage.getTableCellRanges(List.of(
+                CsvTableDescriptor.of("table 2", "total", TableHeader.class),
+                CsvTableDescriptor.of("Table 1", "Total", TableHeader.class),
+                CsvTableDescriptor.of("Table 1", "Total", TableHeader.class, 3),
+                CsvTableDescriptor.of("Table 3", "Total", TableHeader.class)));
+
+        assertEquals(List.of(
+                        TableCellRange.of(4, 6, 0, 0),
+                        TableCellRange.of(0, 3, 0, 1),
+                        TableCellRange.of(0, 6, 0, 0),
+                        TableCellRange.EMPTY_RANGE),
+                ranges);
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Table Wrapper CSV Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.csv;
+
+import com.univocity.parsers.csv.CsvParserSettings;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_16LE;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.spacious_team.table_wrapper.csv.CompactCsvRowStorageTest.ROWS;
+
+class CsvSnapshotCacheTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @SuppressWarnings("ConstantConditions")
+    void getAndPut() throws IOException {
+        CsvSnapshotCache cache = new CsvSnapshotCache(directory.resolve("cache"));
+        Path source = Files.write(directory.resolve("source.csv"), "source".getBytes(UTF_8));
+        CsvParserSettings settings = new CsvParserSettings();
+        CsvReportPageOptions options = CsvReportPageOptions.DEFAULT;
+        String key = cache.getKey(source, UTF_8, settings, options);
+
+        assertNull(cache.get(source, UTF_8, settings, options));
+
+        cache.put(source, UTF_8, settings, options, key, new ArrayCsvRowStorage(ROWS));
+        try (CsvRowStorage rows = cache.get(source, UTF_8, settings, options)) {
+            assertArrayEquals(ROWS[3], rows.getRow(3));
+        }
+        assertNull(cache.get(source, UTF_16LE, settings, options));
+
+        Files.setLastModifiedTime(source, FileTime.fromMillis(Files.getLastModifiedTime(source).toMillis() + 1000));
+        assertNull(cache.get(source, UTF_8, settings, options));
+    }
+
+    @Test
+    void putIfSourceIsModified() throws IOException {
+        CsvSnapshotCache cache = new CsvSnapshotCache(directory.resolve("cache"));
+        Path source = Files.write(directory.resolve("source.csv"), "source".getBytes(UTF_8));
+        CsvParserSettings settings = new CsvParserSettings();
+        CsvReportPageOptions options = CsvReportPageOptions.DEFAULT;
+        String key = cache.getKey(source, UTF_8, settings, options);
+        Files.write(source, "modified source".getBytes(UTF_8));
+
+        cache.put(source, UTF_8, settings, options, key, new ArrayCsvRowStorage(ROWS));
+
+        assertNull(cache.get(source, UTF_8, settings, options));
+        assertFalse(Files.exists(cache.getDirectory()));
+    }
+
+    @Test
+    void putErrorIsReported() throws IOException {
+        Path cacheDirectory = Files.write(directory.resolve("cache"), new byte[0]); // not a directory
+        CsvSnapshotCache cache = new CsvSnapshotCache(cacheDirectory);
+        Path source = Files.write(directory.resolve("source.csv"), "source".getBytes(UTF_8));
+        CsvParserSettings settings = new CsvParserSettings();
+        InMemoryCsvMetrics metrics = new InMemoryCsvMetrics();
+        CsvReportPageOptions options = CsvReportPageOptions.builder()
+                .metricsListener(metrics)
+                .build();
+
+        cache.put(source, UTF_8, settings, options, cache.getKey(source, UTF_8, settings, options),
+                new ArrayCsvRowStorage(ROWS));
+
+        assertEquals(1, metrics.getSnapshotWriteErrorCount());
+        assertNull(cache.get(source, UTF_8, settings, options));
+    }
+
+    @Test
+    void getCorruptedSnapshot() throws IOException {
+        Path cacheDirectory = directory.resolve("cache");
+        CsvSnapshotCache cache = new CsvSnapshotCache(cacheDirectory);
+        Path source = Files.write(directory.resolve("source.csv"), "source".getBytes(UTF_8));
+        CsvParserSettings settings = new CsvParserSettings();
+        CsvReportPageOptions options = CsvReportPageOptions.DEFAULT;
+        cache.put(source, UTF_8, settings, options, cache.getKey(source, UTF_8, settings, options),
+                new ArrayCsvRowStorage(ROWS));
+        Path snapshot = getSnapshotFile(cacheDirectory);
+        Files.write(snapshot, "not a snapshot".getBytes(UTF_8));
+
+        assertNull(cache.get(source, UTF_8, settings, options));
+        assertFalse(Files.exists(snapshot));
+    }
+
+    @Test
+    void getNotReadableSnapshot() throws IOException {
+        Path cacheDirectory = directory.resolve("cache");
+        CsvSnapshotCache cache = new CsvSnapshotCache(cacheDirectory);
+        Path source = Files.write(directory.resolve("source.csv"), "source".getBytes(UTF_8));
+        CsvParserSettings settings = new CsvParserSettings();
+        CsvReportPageOptions options = CsvReportPageOptions.DEFAULT;
+        cache.put(source, UTF_8, settings, options, cache.getKey(source, UTF_8, settings, options),
+                new ArrayCsvRowStorage(ROWS));
+        Path snapshot = getSnapshotFile(cacheDirectory);
+        Files.delete(snapshot);
+        Files.createDirectory(snapshot);
+        Files.createFile(snapshot.resolve("file")); // snapshot can't be read or deleted
+
+        assertNull(cache.get(source, UTF_8, settings, options));
+        assertTrue(Files.isDirectory(snapshot));
+    }
+
+    private static Path getSnapshotFile(Path cacheDirectory) throws IOException {
+        try (Stream<Path> files = Files.list(cacheDirectory)) {
+            return files.findAny().orElseThrow();
+        }
+    }
+
+    @Test
+    void clear() throws IOException {
+        CsvSnapshotCache cache = new CsvSnapshotCache(directory);
+        Path source = Files.write(directory.resolve("source.csv"), "source".getBytes(UTF_8));
+        CsvParserSettings settings = new CsvParserSettings();
+        CsvReportPageOptions options = CsvReportPageOptions.DEFAULT;
+        cache.put(source, UTF_8, settings, options, cache.getKey(source, UTF_8, settings, options),
+                new ArrayCsvRowStorage(ROWS));
+
+        cache.clear();
+
+        assertNull(cache.get(source, UTF_8, settings, options));
+        assertTrue(Files.exists(source));
+        new CsvSnapshotCache(directory.resolve("not-exists")).clear();
+    }
+}
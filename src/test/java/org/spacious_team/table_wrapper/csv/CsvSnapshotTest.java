@@ -0,0 +1,142 @@
+/*
+ * Table Wrapper CSV Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.csv;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.spacious_team.table_wrapper.api.TableCellAddress;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.spacious_team.table_wrapper.csv.CompactCsvRowStorageTest.ROWS;
+import static org.spacious_team.table_wrapper.csv.CompactCsvRowStorageTest.assertCellValues;
+
+class CsvSnapshotTest {
+
+    @TempDir
+    Path directory;
+
+    private SnapshotCsvRowStorage writeAndOpen() throws IOException {
+        Path file = directory.resolve("snapshot");
+        CsvSnapshot.write(new ArrayCsvRowStorage(ROWS), file, "key");
+        return CsvSnapshot.open(file);
+    }
+
+    @Test
+    void writeAndOpen() throws IOException {
+        try (SnapshotCsvRowStorage storage = writeAndOpen()) {
+            assertEquals("key", storage.getKey());
+            for (int i = 0; i < ROWS.length; i++) {
+                assertArrayEquals(ROWS[i], storage.getRow(i));
+            }
+            assertNull(storage.getRow(-1));
+            assertNull(storage.getRow(ROWS.length));
+            assertEquals(ROWS.length - 1, storage.getLastRowNum());
+            assertEquals(8, storage.getCellCount());
+        }
+        assertArrayEquals(new String[]{"snapshot"}, directory.toFile().list());
+    }
+
+    @Test
+    void getCellValue() throws IOException {
+        try (SnapshotCsvRowStorage storage = writeAndOpen()) {
+            assertCellValues(storage);
+        }
+    }
+
+    @Test
+    void find() throws IOException {
+        try (SnapshotCsvRowStorage storage = writeAndOpen()) {
+            assertEquals(TableCellAddress.of(0, 2), storage.find("", 0, 5, 0, 5));
+            assertEquals(TableCellAddress.of(0, 1), storage.find(null, 0, 5, 0, 5));
+            assertEquals(TableCellAddress.of(2, 0), storage.find(null, 1, 5, 0, 5));
+            assertEquals(TableCellAddress.of(3, 1), storage.find("long cell value", 0, 5, 0, 5));
+            assertEquals(TableCellAddress.of(4, 0), storage.find(40, 0, 5, 0, 5));
+            assertSame(TableCellAddress.NOT_FOUND, storage.find("long cell", 0, 5, 0, 5));
+            assertSame(TableCellAddress.NOT_FOUND, storage.find("00", 1, 5, 0, 5));
+            assertSame(TableCellAddress.NOT_FOUND, storage.find("03", 0, 5, 0, 3));
+            assertEquals(TableCellAddress.of(3, 1),
+                    storage.find(0, 5, 0, 5, cell -> cell != null && cell.startsWith("long")));
+            assertEquals(TableCellAddress.of(2, 0),
+                    storage.find(1, 5, 0, 5, Objects::isNull, 0));
+        }
+    }
+
+    @Test
+    void findInManyValues() throws IOException {
+        int count = 10_000;
+        String[][] rows = new String[count][];
+        for (int i = 0; i < count; i++) {
+            rows[i] = new String[]{"key" + i, String.valueOf(i % 100)};
+        }
+        Path file = directory.resolve("snapshot");
+        CsvSnapshot.write(new ArrayCsvRowStorage(rows), file, "key");
+
+        try (SnapshotCsvRowStorage storage = CsvSnapshot.open(file)) {
+            for (int i = 0; i < count; i += 97) {
+                assertEquals(TableCellAddress.of(i, 0), storage.find("key" + i, 0, count, 0, 2));
+            }
+            assertEquals(TableCellAddress.of(150, 1), storage.find("50", 100, count, 0, 2));
+            assertSame(TableCellAddress.NOT_FOUND, storage.find("key" + count, 0, count, 0, 2));
+        }
+    }
+
+    @Test
+    void close() throws IOException {
+        SnapshotCsvRowStorage storage = writeAndOpen();
+
+        storage.close();
+        storage.close();
+
+        assertThrows(IllegalStateException.class, () -> storage.getRow(0));
+        assertThrows(IllegalStateException.class, () -> storage.find("00", 0, 5, 0, 5));
+    }
+
+    @Test
+    void openNotSnapshot() throws IOException {
+        Path file = directory.resolve("not-snapshot");
+        Files.write(file, "a,b,c\n1,2,3\n".getBytes());
+
+        assertThrows(CsvSnapshot.FormatException.class, () -> CsvSnapshot.open(file));
+    }
+
+    @Test
+    void openCorrupted() throws IOException {
+        Path file = directory.resolve("snapshot");
+        CsvSnapshot.write(new ArrayCsvRowStorage(ROWS), file, "key");
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 1));
+
+        assertThrows(CsvSnapshot.FormatException.class, () -> CsvSnapshot.open(file));
+
+        ByteBuffer header = ByteBuffer.allocate(4 * Integer.BYTES)
+                .putInt(CsvSnapshot.MAGIC)
+                .putInt(CsvSnapshot.VERSION)
+                .putInt(Integer.MAX_VALUE);
+        Files.write(file, header.array());
+
+        assertThrows(CsvSnapshot.FormatException.class, () -> CsvSnapshot.open(file));
+    }
+}
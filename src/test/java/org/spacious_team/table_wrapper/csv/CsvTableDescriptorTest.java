@@ -0,0 +1,56 @@
+/*
+ * Table Wrapper CSV Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.csv;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import org.junit.jupiter.api.Test;
+import org.spacious_team.table_wrapper.csv.CsvTableTest.TableHeader;
+
+import static nl.jqno.equalsverifier.Warning.STRICT_INHERITANCE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CsvTableDescriptorTest {
+
+    @Test
+    void of() {
+        CsvTableDescriptor<TableHeader> descriptor = CsvTableDescriptor.of("table name", "total", TableHeader.class);
+
+        assertEquals("table name", descriptor.getTableName());
+        assertEquals("total", descriptor.getLastRowString());
+        assertSame(TableHeader.class, descriptor.getHeaderDescription());
+        assertEquals(1, descriptor.getHeadersRowCount());
+        assertEquals(3, CsvTableDescriptor.of("table name", "total", TableHeader.class, 3).getHeadersRowCount());
+    }
+
+    @Test
+    void blankName() {
+        assertThrows(IllegalArgumentException.class, () -> CsvTableDescriptor.of(" ", "total", TableHeader.class));
+        assertThrows(IllegalArgumentException.class, () -> CsvTableDescriptor.of("table name", "", TableHeader.class));
+    }
+
+    @Test
+    void testEqualsAndHashCode() {
+        EqualsVerifier
+                .forClass(CsvTableDescriptor.class)
+                .suppress(STRICT_INHERITANCE) // no subclass for test
+                .verify();
+    }
+}
@@ -23,9 +23,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.spacious_team.table_wrapper.api.Table;
 import org.spacious_team.table_wrapper.api.TableCellRange;
 import org.spacious_team.table_wrapper.csv.CsvTableTest.TableHeader;
 
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -48,4 +52,29 @@ class CsvTableFactoryTest {
         assertTrue(table.isEmpty());
         assertTrue(table.getHeaderDescription().isEmpty());
     }
-}
\ No newline at end of file
+
+    @Test
+    void createWithMetricsListener() {
+        InMemoryCsvMetrics metrics = new InMemoryCsvMetrics();
+        CsvTableFactory factory = new CsvTableFactory(metrics);
+        factory.create(reportPage, "table name", tableRange, TableHeader.class, 1);
+
+        assertEquals(1, metrics.getTableCreateCount());
+    }
+
+    @Test
+    void createAll() {
+        CsvReportPage reportPage = new CsvReportPage(new String[][]{
+                {"Table 1"}, {"header"}, {"Total 1"}, {"Table 2"}, {"header"}, {"Total 2"}});
+        List<Table> tables = factory.createAll(reportPage, List.of(
+                CsvTableDescriptor.of("Table 2", "Total", TableHeader.class),
+                CsvTableDescriptor.of("Table 1", "Total", TableHeader.class),
+                CsvTableDescriptor.of("Table 3", "Total", TableHeader.class)));
+
+        assertEquals(3, tables.size());
+        assertEquals(TableCellRange.of(3, 5, 0, 0), ((CsvTable) tables.get(0)).getTableRange());
+        assertEquals(TableCellRange.of(0, 2, 0, 0), ((CsvTable) tables.get(1)).getTableRange());
+        assertEquals(TableCellRange.EMPTY_RANGE, ((CsvTable) tables.get(2)).getTableRange());
+        assertSame(reportPage, ((CsvTable) tables.get(0)).getReportPage());
+    }
+}
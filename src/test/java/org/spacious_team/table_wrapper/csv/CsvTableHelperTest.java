@@ -19,6 +19,8 @@
 package org.spacious_team.table_wrapper.csv;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.spacious_team.table_wrapper.api.TableCellAddress;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -52,4 +54,26 @@ class CsvTableHelperTest {
         assertSame(TableCellAddress.NOT_FOUND,
                 CsvTableHelper.find(table, "00", 0, 3, -1, 0));
     }
-}
\ No newline at end of file
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 2, 100, Integer.MAX_VALUE})
+    void findInParallel(int parallelThreshold) {
+        String[][] table = new String[1000][];
+        for (int i = 0; i < table.length; i++) {
+            table[i] = new String[]{"a" + (i % 10), "b" + (i % 100)};
+        }
+        assertEquals(TableCellAddress.of(99, 1),
+                CsvTableHelper.find(table, 0, 1000, 0, 2, "b99"::equals, parallelThreshold));
+        assertEquals(TableCellAddress.of(199, 1),
+                CsvTableHelper.find(table, 100, 1000, 0, 2, "b99"::equals, parallelThreshold));
+        assertEquals(TableCellAddress.of(109, 0),
+                CsvTableHelper.find(table, 100, 1000, 0, 2,
+                        cell -> cell != null && cell.endsWith("9"), parallelThreshold));
+        assertSame(TableCellAddress.NOT_FOUND,
+                CsvTableHelper.find(table, 0, 1000, 1, 2, "a1"::equals, parallelThreshold));
+        assertSame(TableCellAddress.NOT_FOUND,
+                CsvTableHelper.find(table, 1000, Integer.MAX_VALUE, 0, 2, "a1"::equals, parallelThreshold));
+        assertSame(TableCellAddress.NOT_FOUND,
+                CsvTableHelper.find(table, Integer.MIN_VALUE, -1, 0, 2, "a1"::equals, parallelThreshold));
+    }
+}
@@ -23,17 +23,35 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.spacious_team.table_wrapper.api.AbstractReportPage;
 import org.spacious_team.table_wrapper.api.AbstractTable;
+import org.spacious_team.table_wrapper.api.PatternTableColumn;
 import org.spacious_team.table_wrapper.api.TableCellRange;
 import org.spacious_team.table_wrapper.api.TableColumn;
 import org.spacious_team.table_wrapper.api.TableHeaderColumn;
+import org.spacious_team.table_wrapper.api.TableRow;
 
+import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
 
 import static nl.jqno.equalsverifier.Warning.NONFINAL_FIELDS;
 import static nl.jqno.equalsverifier.Warning.STRICT_INHERITANCE;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class CsvTableTest {
@@ -72,6 +90,103 @@ class CsvTableTest {
                 subTable.getTableRange());
     }
 
+    @Test
+    @SuppressWarnings("ConstantConditions")
+    void stream() {
+        String[][] cells = new String[1002][];
+        cells[0] = new String[]{"table name"};
+        cells[1] = new String[]{"header"};
+        for (int i = 2; i < cells.length; i++) {
+            cells[i] = new String[]{"value " + i};
+        }
+        CsvReportPage reportPage = new CsvReportPage(cells);
+        CsvTable table = new CsvTable(reportPage, "table name",
+                TableCellRange.of(0, cells.length - 1, 0, 0), TableHeader.class, 1);
+        List<String> expected = new ArrayList<>();
+        table.forEach(row -> expected.add(row.getRowNum() + ": " + row.getCell(0).getValue()));
+
+        assertEquals(expected, table.stream()
+                .map(row -> row.getRowNum() + ": " + row.getCell(0).getValue())
+                .collect(Collectors.toList()));
+        assertEquals(expected, table.stream()
+                .parallel()
+                .map(row -> row.getRowNum() + ": " + row.getCell(0).getValue())
+                .collect(Collectors.toList()));
+    }
+
+    @Test
+    void spliterator() {
+        String[][] cells = new String[12][];
+        Arrays.fill(cells, new String[]{"value"});
+        CsvTable table = new CsvTable(new CsvReportPage(cells), "table name",
+                TableCellRange.of(0, cells.length - 1, 0, 0), TableHeader.class, 1);
+        Spliterator<TableRow> spliterator = table.spliterator();
+
+        assertEquals(10, spliterator.getExactSizeIfKnown());
+        assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED));
+
+        Spliterator<TableRow> prefix = spliterator.trySplit();
+
+        assertEquals(5, prefix.getExactSizeIfKnown());
+        assertEquals(5, spliterator.getExactSizeIfKnown());
+        assertTrue(prefix.tryAdvance(row -> assertEquals(2, row.getRowNum())));
+        assertNull(prefix.trySplit());
+        assertTrue(spliterator.tryAdvance(row -> assertEquals(7, row.getRowNum())));
+        assertEquals(4, spliterator.getExactSizeIfKnown());
+    }
+
+    @Test
+    void spliteratorSizeDoesNotReadRows() {
+        String[][] cells = new String[12][];
+        Arrays.fill(cells, new String[]{"value"});
+        CsvReportPage reportPage = spy(new CsvReportPage(cells));
+        CsvTable table = new CsvTable(reportPage, "table name",
+                TableCellRange.of(0, cells.length - 1, 0, 0), TableHeader.class, 1);
+        clearInvocations(reportPage);
+
+        assertEquals(10, table.spliterator().getExactSizeIfKnown());
+        assertEquals(6, new CsvTable(table, -4, 0).spliterator().getExactSizeIfKnown());
+        verify(reportPage, never()).getRow(anyInt());
+    }
+
+    @Test
+    void getColumnValues() {
+        CsvReportPage reportPage = new CsvReportPage(new String[][]{
+                {"table name"},
+                {"id", "amount", "date"},
+                {"1", "1,5", "2023-01-02"},
+                {"2", " "},
+                {"-3", "-2.25", "2023-01-03 10:15:00"}});
+        CsvTable table = new CsvTable(reportPage, "table name", TableCellRange.of(0, 4, 0, 2), Column.class, 1);
+        BitSet emptyCells = new BitSet();
+        emptyCells.set(10);
+
+        assertArrayEquals(new long[]{1, 2, -3}, table.getLongColumnValues(Column.ID, emptyCells));
+        assertTrue(emptyCells.isEmpty());
+
+        assertArrayEquals(new double[]{1.5, 0, -2.25}, table.getDoubleColumnValues(Column.AMOUNT, emptyCells));
+        assertEquals(BitSet.valueOf(new long[]{0b010}), emptyCells);
+
+        assertArrayEquals(new BigDecimal[]{new BigDecimal("1.5"), null, new BigDecimal("-2.25")},
+                table.getBigDecimalColumnValues(Column.AMOUNT, emptyCells));
+        assertEquals(BitSet.valueOf(new long[]{0b010}), emptyCells);
+
+        CsvCellDataAccessObject dao = CsvCellDataAccessObject.INSTANCE;
+        Instant[] expectedInstants = {dao.getInstantValue("2023-01-02"), null, dao.getInstantValue("2023-01-03 10:15:00")};
+        assertArrayEquals(expectedInstants, table.getInstantColumnValues(Column.DATE, emptyCells));
+        assertEquals(BitSet.valueOf(new long[]{0b010}), emptyCells);
+    }
+
+    @Test
+    void getColumnValuesOfEmptyTable() {
+        CsvReportPage reportPage = new CsvReportPage(new String[][]{{"table name"}, {"id", "amount", "date"}});
+        CsvTable table = new CsvTable(reportPage, "table name", TableCellRange.of(0, 1, 0, 2), Column.class, 1);
+        BitSet emptyCells = new BitSet();
+
+        assertEquals(0, table.getLongColumnValues(Column.ID, emptyCells).length);
+        assertTrue(emptyCells.isEmpty());
+    }
+
     @Test
     void testEqualsAndHashCode() {
         EqualsVerifier
@@ -90,6 +205,23 @@ class CsvTableTest {
                 csvTable.toString());
     }
 
+    enum Column implements TableHeaderColumn {
+        ID("id"),
+        AMOUNT("amount"),
+        DATE("date");
+
+        private final TableColumn column;
+
+        Column(String words) {
+            this.column = PatternTableColumn.of(words);
+        }
+
+        @Override
+        public TableColumn getColumn() {
+            return column;
+        }
+    }
+
     enum TableHeader implements TableHeaderColumn {
         ;
 
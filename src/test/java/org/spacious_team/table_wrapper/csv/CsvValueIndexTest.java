@@ -0,0 +1,62 @@
+/*
+ * Table Wrapper CSV Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.csv;
+
+import org.junit.jupiter.api.Test;
+import org.spacious_team.table_wrapper.api.TableCellAddress;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CsvValueIndexTest {
+
+    @SuppressWarnings("ConstantConditions")
+    final String[][] table = new String[][]{
+            {"00", "01", "x"},
+            {"x", "11", "12"},
+            {null, "x", "22"},
+            {"30", "31", "x"}
+    };
+    final CsvValueIndex index = CsvValueIndex.of(new ArrayCsvRowStorage(table));
+
+    @Test
+    void findSameAsHelper() {
+        int max = table.length + 1;
+        for (String value : new String[]{"x", "00", "12", "22", "31", "xyz"}) {
+            for (int startRow = -1; startRow <= max; startRow++) {
+                for (int endRow = startRow; endRow <= max; endRow++) {
+                    for (int startColumn = -1; startColumn <= 4; startColumn++) {
+                        for (int endColumn = startColumn; endColumn <= 4; endColumn++) {
+                            assertEquals(
+                                    CsvTableHelper.find(table, value, startRow, endRow, startColumn, endColumn),
+                                    index.find(value, startRow, endRow, startColumn, endColumn));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void findLimits() {
+        assertEquals(TableCellAddress.of(0, 2),
+                index.find("x", Integer.MIN_VALUE, Integer.MAX_VALUE, Integer.MIN_VALUE, Integer.MAX_VALUE));
+        assertEquals(TableCellAddress.of(3, 2),
+                index.find("x", 3, Integer.MAX_VALUE, 0, Integer.MAX_VALUE));
+    }
+}
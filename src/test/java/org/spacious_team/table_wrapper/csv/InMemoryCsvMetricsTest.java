@@ -0,0 +1,68 @@
+/*
+ * Table Wrapper CSV Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.csv;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.spacious_team.table_wrapper.csv.CsvMetricsListener.FindMethod.PREDICATE;
+import static org.spacious_team.table_wrapper.csv.CsvMetricsListener.FindMethod.VALUE;
+import static org.spacious_team.table_wrapper.csv.CsvMetricsListener.FindMethod.VALUE_INDEX;
+
+class InMemoryCsvMetricsTest {
+
+    @Test
+    void onParse() {
+        InMemoryCsvMetrics metrics = new InMemoryCsvMetrics();
+        metrics.onParse(100, 2, 6, 10);
+        metrics.onParse(-1, 3, 9, 20);
+
+        assertEquals(2, metrics.getParseCount());
+        assertEquals(100, metrics.getParsedBytes());
+        assertEquals(5, metrics.getParsedRows());
+        assertEquals(15, metrics.getParsedCells());
+        assertEquals(30, metrics.getParseNanos());
+    }
+
+    @Test
+    void onFind() {
+        InMemoryCsvMetrics metrics = new InMemoryCsvMetrics();
+        metrics.onFind(VALUE, 10, true, 5);
+        metrics.onFind(VALUE, 20, false, 7);
+        metrics.onFind(VALUE_INDEX, 0, true, 1);
+
+        assertEquals(2, metrics.getFindCount(VALUE));
+        assertEquals(1, metrics.getFoundCount(VALUE));
+        assertEquals(30, metrics.getScannedRows(VALUE));
+        assertEquals(12, metrics.getFindNanos(VALUE));
+        assertEquals(1, metrics.getFindCount(VALUE_INDEX));
+        assertEquals(1, metrics.getFoundCount(VALUE_INDEX));
+        assertEquals(0, metrics.getFindCount(PREDICATE));
+    }
+
+    @Test
+    void onTableCreate() {
+        InMemoryCsvMetrics metrics = new InMemoryCsvMetrics();
+        metrics.onTableCreate("table 1", 3);
+        metrics.onTableCreate("table 2", 4);
+
+        assertEquals(2, metrics.getTableCreateCount());
+        assertEquals(7, metrics.getTableCreateNanos());
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Table Wrapper CSV Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.csv;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.jupiter.api.Test;
+import org.spacious_team.table_wrapper.api.Table;
+import org.spacious_team.table_wrapper.api.TableCellAddress;
+import org.spacious_team.table_wrapper.api.TableCellRange;
+import org.spacious_team.table_wrapper.csv.CsvTableTest.Column;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.spacious_team.table_wrapper.csv.StreamingCsvReportPageTest.getInputStream;
+import static org.spacious_team.table_wrapper.csv.StreamingCsvReportPageTest.getInputStreamWithTable;
+
+class LazyCsvReportPageTest {
+
+    @Test
+    @SuppressWarnings("ConstantConditions")
+    void createFromFile() throws IOException {
+        Path path = Files.createTempFile("table-wrapper-csv-impl-test.csv", "csv");
+        try {
+            Files.writeString(path, "0,1");
+            try (CsvReportPage reportPage = new LazyCsvReportPage(path)) {
+                @Nullable CsvTableRow row = reportPage.getRow(0);
+                assertEquals("0", row.getCell(0).getValue());
+                assertEquals("1", row.getCell(1).getValue());
+            }
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    void inputStreamNotClosed() throws IOException {
+        InputStream is = spy(getInputStream(10));
+        new LazyCsvReportPage(is).close();
+        verify(is, never()).close();
+    }
+
+    @Test
+    void getRow() throws IOException {
+        try (CsvReportPage reportPage = new LazyCsvReportPage(getInputStream(1000))) {
+            assertNull(reportPage.getRow(-1));
+            assertEquals(CsvTableRow.of(new String[]{"500", "v500"}, 500), reportPage.getRow(500));
+            assertEquals(CsvTableRow.of(new String[]{"0", "v0"}, 0), reportPage.getRow(0));
+            assertNull(reportPage.getRow(1000));
+        }
+    }
+
+    @Test
+    void find() throws IOException {
+        try (CsvReportPage reportPage = new LazyCsvReportPage(getInputStream(1000))) {
+            assertEquals(TableCellAddress.of(500, 1), reportPage.find("v500", 0, Integer.MAX_VALUE, 0, 2));
+            assertEquals(TableCellAddress.of(0, 0), reportPage.find("0", 0, 10, 0, 2));
+            assertEquals(TableCellAddress.NOT_FOUND, reportPage.find("v1", 2, Integer.MAX_VALUE, 0, 2));
+        }
+    }
+
+    @Test
+    void inputNotReadAfterFoundRow() throws IOException {
+        int rowCount = 500_000;
+        CountingInputStream is = new CountingInputStream(getInputStream(rowCount));
+        try (CsvReportPage reportPage = new LazyCsvReportPage(is)) {
+            assertEquals(TableCellAddress.of(10, 1), reportPage.find("v10", 0, Integer.MAX_VALUE, 0, 2));
+            assertTrue(is.getCount() < is.available(), "input is read beyond found row");
+            assertEquals(rowCount - 1, reportPage.getLastRowNum());
+        }
+    }
+
+    @Test
+    void createTableReadsInputUntilTableLastRow() throws IOException {
+        CountingInputStream is = new CountingInputStream(getInputStreamWithTable(10, 500_000));
+        try (CsvReportPage reportPage = new LazyCsvReportPage(is)) {
+            Table table = new CsvTableFactory().create(reportPage, "Table 1", "Total", Column.class);
+
+            assertEquals(TableCellRange.of(10, 14, 0, 2), table.getTableRange());
+            assertTrue(is.getCount() < is.available(), "input is read beyond table last row");
+        }
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Table Wrapper CSV Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.csv;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedFileReaderTest {
+
+    @ParameterizedTest
+    @ValueSource(longs = {16, 17, 31, 1024, MappedFileReader.DEFAULT_CHUNK_SIZE})
+    void read(long chunkSize) throws IOException {
+        String expected = "a,Текст на UTF-8\n😀,b\n".repeat(10);
+        Path path = Files.createTempFile("table-wrapper-csv-impl-test.csv", "csv");
+        try {
+            Files.writeString(path, expected, UTF_8);
+            try (Reader reader = new MappedFileReader(path, UTF_8, chunkSize)) {
+                assertEquals(expected, readAll(reader));
+                assertEquals(-1, reader.read());
+            }
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"UTF-8", "Windows-1251"})
+    void readCharset(String charsetName) throws IOException {
+        String expected = "Текст";
+        Charset charset = Charset.forName(charsetName);
+        Path path = Files.createTempFile("table-wrapper-csv-impl-test.csv", "csv");
+        try {
+            Files.writeString(path, expected, charset);
+            try (Reader reader = new MappedFileReader(path, charset)) {
+                assertEquals(expected, readAll(reader));
+            }
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    void readRegion() throws IOException {
+        String text = "a,Текст\nb,c\n";
+        byte[] bytes = text.getBytes(UTF_8);
+        int start = "a,Текст\n".getBytes(UTF_8).length;
+        Path path = Files.createTempFile("table-wrapper-csv-impl-test.csv", "csv");
+        try {
+            Files.write(path, bytes);
+            try (Reader reader = new MappedFileReader(path, UTF_8, 2, start, 16)) {
+                assertEquals("Текст\n", readAll(reader));
+            }
+            try (Reader reader = new MappedFileReader(path, UTF_8, start, -1, 16)) {
+                assertEquals("b,c\n", readAll(reader));
+            }
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    void wrongRegion() {
+        Path path = Path.of("any");
+        assertThrows(IllegalArgumentException.class, () -> new MappedFileReader(path, UTF_8, -1, 1, 16));
+        assertThrows(IllegalArgumentException.class, () -> new MappedFileReader(path, UTF_8, 2, 1, 16));
+    }
+
+    @Test
+    void readEmptyFile() throws IOException {
+        Path path = Files.createTempFile("table-wrapper-csv-impl-test.csv", "csv");
+        try (Reader reader = new MappedFileReader(path, UTF_8)) {
+            assertEquals(-1, reader.read(new char[8], 0, 8));
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    void readClosed() throws IOException {
+        Path path = Files.createTempFile("table-wrapper-csv-impl-test.csv", "csv");
+        try {
+            Reader reader = new MappedFileReader(path, UTF_8);
+            reader.close();
+            assertThrows(IOException.class, reader::read);
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    void closeWhileReading() throws Exception {
+        Path path = Files.createTempFile("table-wrapper-csv-impl-test.csv", "csv");
+        try {
+            Files.writeString(path, "0123456789".repeat(100_000));
+            Reader reader = new MappedFileReader(path, UTF_8, 64);
+            AtomicReference<@Nullable Exception> readError = new AtomicReference<>();
+            Thread readingThread = new Thread(() -> {
+                char[] buffer = new char[10];
+                try {
+                    while (reader.read(buffer) != -1) {
+                        assertEquals("0123456789", new String(buffer));
+                    }
+                } catch (Exception e) {
+                    readError.set(e);
+                }
+            });
+            readingThread.start();
+            reader.close();
+            readingThread.join();
+
+            @Nullable Exception e = readError.get();
+            assertTrue(e == null || e instanceof IOException, () -> "Unexpected " + e);
+            assertThrows(IOException.class, reader::read);
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    void wrongChunkSize() {
+        Path path = Path.of("not-exists.csv");
+        assertThrows(IllegalArgumentException.class, () -> new MappedFileReader(path, UTF_8, 1));
+    }
+
+    private static String readAll(Reader reader) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        char[] buffer = new char[7];
+        int count;
+        while ((count = reader.read(buffer, 0, buffer.length)) != -1) {
+            sb.append(buffer, 0, count);
+        }
+        return sb.toString();
+    }
+}
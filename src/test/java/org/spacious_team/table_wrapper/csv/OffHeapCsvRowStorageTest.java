@@ -0,0 +1,154 @@
+/*
+ * Table Wrapper CSV Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.csv;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.spacious_team.table_wrapper.api.TableCellAddress;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.spacious_team.table_wrapper.csv.CompactCsvRowStorageTest.ROWS;
+import static org.spacious_team.table_wrapper.csv.CompactCsvRowStorageTest.assertCellValues;
+
+class OffHeapCsvRowStorageTest {
+
+    static CsvRowStorage createStorage(int segmentSize) {
+        OffHeapCsvRowStorage.Builder builder = new OffHeapCsvRowStorage.Builder(segmentSize);
+        for (String[] row : ROWS) {
+            builder.append(row);
+        }
+        return builder.build();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 8, OffHeapCsvRowStorage.DEFAULT_SEGMENT_SIZE})
+    void getRow(int segmentSize) {
+        CsvRowStorage storage = createStorage(segmentSize);
+
+        for (int i = 0; i < ROWS.length; i++) {
+            assertArrayEquals(ROWS[i], storage.getRow(i));
+        }
+        assertNull(storage.getRow(-1));
+        assertNull(storage.getRow(ROWS.length));
+        assertEquals(ROWS.length - 1, storage.getLastRowNum());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 8, OffHeapCsvRowStorage.DEFAULT_SEGMENT_SIZE})
+    void getCellValue(int segmentSize) {
+        assertCellValues(createStorage(segmentSize));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, OffHeapCsvRowStorage.DEFAULT_SEGMENT_SIZE})
+    void findByValue(int segmentSize) {
+        CsvRowStorage storage = createStorage(segmentSize);
+
+        assertEquals(TableCellAddress.of(0, 2), storage.find("", 0, 5, 0, 5));
+        assertEquals(TableCellAddress.of(0, 1), storage.find(null, 0, 5, 0, 5));
+        assertEquals(TableCellAddress.of(2, 0), storage.find(null, 1, 5, 0, 5));
+        assertEquals(TableCellAddress.of(3, 1), storage.find("long cell value", 0, 5, 0, 5));
+        assertEquals(TableCellAddress.of(4, 0), storage.find(40, 0, 5, 0, 5));
+        assertSame(TableCellAddress.NOT_FOUND, storage.find("long cell", 0, 5, 0, 5));
+        assertSame(TableCellAddress.NOT_FOUND, storage.find("00", 1, 5, 0, 5));
+        assertSame(TableCellAddress.NOT_FOUND, storage.find("03", 0, 5, 0, 3));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, OffHeapCsvRowStorage.DEFAULT_SEGMENT_SIZE})
+    void findByPredicate(int segmentSize) {
+        CsvRowStorage storage = createStorage(segmentSize);
+
+        assertEquals(TableCellAddress.of(3, 1),
+                storage.find(0, 5, 0, 5, cell -> cell != null && cell.startsWith("long")));
+        assertEquals(TableCellAddress.of(0, 3),
+                storage.find(Integer.MIN_VALUE, Integer.MAX_VALUE, 2, Integer.MAX_VALUE, "03"::equals));
+        assertSame(TableCellAddress.NOT_FOUND,
+                storage.find(0, 5, 0, 5, "xyz"::equals));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 2, Integer.MAX_VALUE})
+    void findByPredicateInParallel(int parallelThreshold) {
+        CsvRowStorage storage = createStorage(OffHeapCsvRowStorage.DEFAULT_SEGMENT_SIZE);
+
+        assertEquals(TableCellAddress.of(0, 1),
+                storage.find(0, 5, 0, 5, Objects::isNull, parallelThreshold));
+        assertEquals(TableCellAddress.of(2, 0),
+                storage.find(1, 5, 0, 5, Objects::isNull, parallelThreshold));
+        assertEquals(TableCellAddress.of(3, 0),
+                storage.find(Integer.MIN_VALUE, Integer.MAX_VALUE, 0, 1,
+                        cell -> cell != null && cell.length() == 2 && cell.charAt(0) > '0', parallelThreshold));
+        assertSame(TableCellAddress.NOT_FOUND,
+                storage.find(0, 5, 0, 5, "xyz"::equals, parallelThreshold));
+    }
+
+    @Test
+    void tooLargeSegment() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new OffHeapCsvRowStorage.Builder(OffHeapCsvRowStorage.MAX_SEGMENT_SIZE + 1));
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapCsvRowStorage.Builder(-1));
+    }
+
+    @Test
+    void cellCount() {
+        CsvRowStorage storage = createStorage(OffHeapCsvRowStorage.DEFAULT_SEGMENT_SIZE);
+
+        assertEquals(8, storage.getCellCount());
+    }
+
+    @Test
+    void close() throws IOException {
+        CsvRowStorage storage = createStorage(1);
+
+        storage.close();
+        storage.close();
+
+        assertThrows(IllegalStateException.class, () -> storage.getRow(0));
+        assertThrows(IllegalStateException.class, () -> storage.find("00", 0, 5, 0, 5));
+        assertThrows(IllegalStateException.class, () -> storage.find(0, 5, 0, 5, "00"::equals));
+    }
+
+    @Test
+    void closeWhileReading() throws Exception {
+        CsvRowStorage storage = createStorage(1);
+        AtomicReference<@Nullable RuntimeException> readError = new AtomicReference<>();
+        Thread readingThread = new Thread(() -> {
+            try {
+                while (true) {
+                    assertArrayEquals(ROWS[3], storage.getRow(3));
+                    assertEquals(TableCellAddress.of(3, 1), storage.find("long cell value", 0, 5, 0, 5));
+                }
+            } catch (RuntimeException e) {
+                readError.set(e);
+            }
+        });
+        readingThread.start();
+        storage.close();
+        readingThread.join();
+
+        assertTrue(readError.get() instanceof IllegalStateException, () -> "Unexpected " + readError.get());
+    }
+}
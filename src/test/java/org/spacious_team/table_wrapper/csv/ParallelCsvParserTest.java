@@ -0,0 +1,176 @@
+/*
+ * Table Wrapper CSV Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.csv;
+
+import com.univocity.parsers.csv.CsvFormat;
+import com.univocity.parsers.csv.CsvParserSettings;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+
+import static java.nio.charset.StandardCharsets.UTF_16;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelCsvParserTest {
+
+    static final String CSV = "a,\"quoted, \"\"multi\nline\"\" value\",Итого\r\n" +
+            "# comment with \" quote\n" +
+            "b,  \"x\",y\"z\n" +
+            "\"\n\",2,3\n";
+
+    @ParameterizedTest
+    @EnumSource(CsvCellStorage.class)
+    void parse(CsvCellStorage cellStorage) throws IOException {
+        Path path = Files.createTempFile("table-wrapper-csv-impl-test.csv", "csv");
+        try {
+            Files.writeString(path, CSV.repeat(100), UTF_8);
+            CsvReportPageOptions options = CsvReportPageOptions.builder()
+                    .cellStorage(cellStorage)
+                    .parseExecutor(ForkJoinPool.commonPool())
+                    .parseChunkSize(50)
+                    .build();
+            CsvParserSettings settings = CsvReportPage.getDefaultCsvParserSettings();
+            assertTrue(ParallelCsvParser.isSupported(path, UTF_8, settings, options.getParseChunkSize()));
+
+            try (CsvReportPage expected = new CsvReportPage(path);
+                 CsvReportPage actual = new CsvReportPage(path, UTF_8, settings, options)) {
+                assertEquals(expected.getLastRowNum(), actual.getLastRowNum());
+                for (int i = 0; i <= expected.getLastRowNum(); i++) {
+                    assertEquals(expected.getRow(i), actual.getRow(i));
+                }
+            }
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"\"a\"b,\"c\nd\",e\n", "\"a\" ,b\n", "\"not closed\n"})
+    void parseAmbiguousQuotes(String ambiguousRecord) throws IOException {
+        Path path = Files.createTempFile("table-wrapper-csv-impl-test.csv", "csv");
+        try {
+            Files.writeString(path, "x,y\n".repeat(12) + ambiguousRecord + "x,\"y\"\n".repeat(30), UTF_8);
+            CsvReportPageOptions options = CsvReportPageOptions.builder()
+                    .parseExecutor(ForkJoinPool.commonPool())
+                    .parseChunkSize(50)
+                    .build();
+            CsvParserSettings settings = CsvReportPage.getDefaultCsvParserSettings();
+            assertTrue(ParallelCsvParser.isSupported(path, UTF_8, settings, options.getParseChunkSize()));
+
+            try (CsvReportPage expected = new CsvReportPage(path);
+                 CsvReportPage actual = new CsvReportPage(path, UTF_8, settings, options)) {
+                assertEquals(expected.getLastRowNum(), actual.getLastRowNum());
+                for (int i = 0; i <= expected.getLastRowNum(); i++) {
+                    assertEquals(expected.getRow(i), actual.getRow(i));
+                }
+            }
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    void parseException() throws IOException {
+        Path path = Files.createTempFile("table-wrapper-csv-impl-test.csv", "csv");
+        try {
+            Files.writeString(path, "a,b\n".repeat(100), UTF_8);
+            CsvReportPageOptions options = CsvReportPageOptions.builder()
+                    .parseExecutor(ForkJoinPool.commonPool())
+                    .parseChunkSize(50)
+                    .build();
+            CsvParserSettings settings = CsvReportPage.getDefaultCsvParserSettings();
+            settings.setMaxColumns(1);
+
+            assertThrows(RuntimeException.class, () -> new CsvReportPage(path, UTF_8, settings, options));
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"UTF-8", "US-ASCII", "ISO-8859-1", "Windows-1251"})
+    void isSupportedCharset(String charset) throws IOException {
+        Path path = Files.createTempFile("table-wrapper-csv-impl-test.csv", "csv");
+        try {
+            Files.writeString(path, "a,b\n".repeat(100), UTF_8);
+            CsvParserSettings settings = CsvReportPage.getDefaultCsvParserSettings();
+
+            assertTrue(ParallelCsvParser.isSupported(path, Charset.forName(charset), settings, 50));
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    void isNotSupported() throws IOException {
+        Path path = Files.createTempFile("table-wrapper-csv-impl-test.csv", "csv");
+        try {
+            Files.writeString(path, "a,b\n".repeat(100), UTF_8);
+            CsvParserSettings settings = CsvReportPage.getDefaultCsvParserSettings();
+
+            assertFalse(ParallelCsvParser.isSupported(path, UTF_16, settings, 50));
+            assertFalse(ParallelCsvParser.isSupported(path, UTF_8, settings, 1000));
+            settings.setHeaderExtractionEnabled(true);
+            assertFalse(ParallelCsvParser.isSupported(path, UTF_8, settings, 50));
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    void getChunkBoundaries() throws IOException {
+        Path path = Files.createTempFile("table-wrapper-csv-impl-test.csv", "csv");
+        try {
+            Files.writeString(path, "\"a\nb\",c\n#\"\nd\n", UTF_8);
+            CsvFormat format = new CsvFormat();
+            format.setLineSeparator("\n");
+            ParallelCsvParser.RecordBoundaryScanner scanner = ParallelCsvParser.RecordBoundaryScanner.of(format, true);
+
+            assertNotNull(scanner);
+            assertArrayEquals(new long[]{0, 8, 11, 13}, scanner.getChunkBoundaries(path, 1));
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"\"a\"b\nc\n", "a,\"b\" \nc\n", "a,\"not closed\nc\n"})
+    void getChunkBoundariesOfAmbiguousQuotes(String csv) throws IOException {
+        Path path = Files.createTempFile("table-wrapper-csv-impl-test.csv", "csv");
+        try {
+            Files.writeString(path, csv, UTF_8);
+            CsvFormat format = new CsvFormat();
+            format.setLineSeparator("\n");
+            ParallelCsvParser.RecordBoundaryScanner scanner = ParallelCsvParser.RecordBoundaryScanner.of(format, true);
+
+            assertNotNull(scanner);
+            assertNull(scanner.getChunkBoundaries(path, 1));
+        } finally {
+            Files.delete(path);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Table Wrapper CSV Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.csv;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.jupiter.api.Test;
+import org.spacious_team.table_wrapper.api.Table;
+import org.spacious_team.table_wrapper.api.TableCellAddress;
+import org.spacious_team.table_wrapper.api.TableCellRange;
+import org.spacious_team.table_wrapper.csv.CsvTableTest.Column;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class StreamingCsvReportPageTest {
+
+    static InputStream getInputStream(int rowCount) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < rowCount; i++) {
+            sb.append(i).append(",v").append(i).append('\n');
+        }
+        return new ByteArrayInputStream(sb.toString().getBytes(UTF_8));
+    }
+
+    @Test
+    @SuppressWarnings("ConstantConditions")
+    void createFromFile() throws IOException {
+        Path path = Files.createTempFile("table-wrapper-csv-impl-test.csv", "csv");
+        try {
+            Files.writeString(path, "0,1");
+            try (CsvReportPage reportPage = new StreamingCsvReportPage(path)) {
+                @Nullable CsvTableRow row = reportPage.getRow(0);
+                assertEquals("0", row.getCell(0).getValue());
+                assertEquals("1", row.getCell(1).getValue());
+            }
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    void inputStreamNotClosed() throws IOException {
+        InputStream is = spy(getInputStream(10));
+        new StreamingCsvReportPage(is, UTF_8, CsvReportPage.getDefaultCsvParserSettings(), 3)
+                .close();
+        verify(is, never()).close();
+    }
+
+    @Test
+    void getRow() throws IOException {
+        try (CsvReportPage reportPage = new StreamingCsvReportPage(
+                getInputStream(10), UTF_8, CsvReportPage.getDefaultCsvParserSettings(), 3)) {
+            assertNull(reportPage.getRow(-1));
+            assertEquals(CsvTableRow.of(new String[]{"0", "v0"}, 0), reportPage.getRow(0));
+            assertEquals(CsvTableRow.of(new String[]{"5", "v5"}, 5), reportPage.getRow(5));
+            assertEquals(CsvTableRow.of(new String[]{"3", "v3"}, 3), reportPage.getRow(3));
+            assertThrows(IllegalStateException.class, () -> reportPage.getRow(2));
+            assertNull(reportPage.getRow(10));
+        }
+    }
+
+    @Test
+    void getEvictedRecentlyRequestedRow() throws IOException {
+        try (CsvReportPage reportPage = new StreamingCsvReportPage(
+                getInputStream(10), UTF_8, CsvReportPage.getDefaultCsvParserSettings(), 3)) {
+            assertEquals(CsvTableRow.of(new String[]{"0", "v0"}, 0), reportPage.getRow(0));
+            assertEquals(CsvTableRow.of(new String[]{"5", "v5"}, 5), reportPage.getRow(5));
+            assertThrows(IllegalStateException.class, () -> reportPage.getRow(0));
+        }
+    }
+
+    @Test
+    void find() throws IOException {
+        try (CsvReportPage reportPage = new StreamingCsvReportPage(
+                getInputStream(100), UTF_8, CsvReportPage.getDefaultCsvParserSettings(), 3)) {
+            assertEquals(TableCellAddress.of(50, 1), reportPage.find("v50", 0, Integer.MAX_VALUE, 0, 2));
+            assertEquals(TableCellAddress.of(51, 0), reportPage.find("51", 49, Integer.MAX_VALUE, 0, 2));
+            assertEquals(TableCellAddress.NOT_FOUND, reportPage.find("v51", 52, Integer.MAX_VALUE, 0, 2));
+            assertThrows(IllegalStateException.class, () -> reportPage.find("v0", 0, 10, 0, 2));
+        }
+    }
+
+    static InputStream getInputStreamWithTable(int rowsBeforeTable, int rowsAfterTable) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < rowsBeforeTable; i++) {
+            sb.append(i).append(",v").append(i).append('\n');
+        }
+        sb.append("Table 1\nid,amount,date\n1,2.5,2023-01-02\n2,3.5,2023-01-03\nTotal,,\n");
+        for (int i = 0; i < rowsAfterTable; i++) {
+            sb.append(i).append(",v").append(i).append('\n');
+        }
+        return new ByteArrayInputStream(sb.toString().getBytes(UTF_8));
+    }
+
+    @Test
+    void createTable() throws IOException {
+        try (CsvReportPage reportPage = new StreamingCsvReportPage(
+                getInputStreamWithTable(100, 100), UTF_8, CsvReportPage.getDefaultCsvParserSettings(), 10)) {
+            Table table = new CsvTableFactory().create(reportPage, "Table 1", "Total", Column.class);
+            List<Integer> rowNums = new ArrayList<>();
+            table.forEach(row -> rowNums.add(row.getRowNum()));
+
+            assertEquals(TableCellRange.of(100, 104, 0, 2), table.getTableRange());
+            assertEquals(List.of(102, 103), rowNums);
+            assertEquals(TableCellAddress.of(115, 1), reportPage.find("v10", 105));
+            assertEquals(TableCellAddress.of(116, 0), reportPage.find(116, "11"::equals));
+            assertEquals(TableCellAddress.of(117, 1), reportPage.findByPrefix("V12", 117));
+        }
+    }
+
+    @Test
+    void getTableCellRanges() throws IOException {
+        try (CsvReportPage reportPage = new StreamingCsvReportPage(
+                getInputStreamWithTable(100, 100), UTF_8, CsvReportPage.getDefaultCsvParserSettings(), 3)) {
+            List<TableCellRange> ranges = reportPage.getTableCellRanges(List.of(
+                    CsvTableDescriptor.of("Table 1", "Total", Column.class)));
+
+            assertEquals(List.of(TableCellRange.of(100, 104, 0, 2)), ranges);
+            assertThrows(IllegalStateException.class, () -> reportPage.getRow(100)); // evicted from window
+        }
+    }
+
+    @Test
+    void getLastRowNum() throws IOException {
+        try (CsvReportPage reportPage = new StreamingCsvReportPage(
+                getInputStream(100), UTF_8, CsvReportPage.getDefaultCsvParserSettings(), 3)) {
+            assertEquals(99, reportPage.getLastRowNum());
+            assertEquals(CsvTableRow.of(new String[]{"99", "v99"}, 99), reportPage.getRow(99));
+        }
+    }
+
+    @Test
+    void wrongWindowSize() {
+        assertThrows(IllegalArgumentException.class, () -> new StreamingCsvReportPage(
+                getInputStream(1), UTF_8, CsvReportPage.getDefaultCsvParserSettings(), 0));
+    }
+}
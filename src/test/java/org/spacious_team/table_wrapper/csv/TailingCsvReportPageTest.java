@@ -0,0 +1,117 @@
+/*
+ * Table Wrapper CSV Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.csv;
+
+import com.univocity.parsers.csv.CsvParserSettings;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.spacious_team.table_wrapper.api.TableCellAddress;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static java.nio.charset.StandardCharsets.UTF_16;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TailingCsvReportPageTest {
+
+    @TempDir
+    Path directory;
+
+    private static void append(Path path, String data) throws IOException {
+        Files.writeString(path, data, StandardOpenOption.APPEND);
+    }
+
+    @Test
+    void refresh() throws IOException {
+        Path path = Files.writeString(directory.resolve("feed.csv"), "a,b\n1,2\n3,");
+        try (TailingCsvReportPage reportPage = new TailingCsvReportPage(path)) {
+            assertEquals(1, reportPage.getLastRowNum());
+            assertNull(reportPage.getRow(2));
+
+            append(path, "4\n\"5\n");
+            assertEquals(1, reportPage.refresh());
+            assertEquals(CsvTableRow.of(new String[]{"3", "4"}, 2), reportPage.getRow(2));
+
+            assertEquals(0, reportPage.refresh());
+
+            append(path, "x\",6\n7,8\n");
+            assertEquals(2, reportPage.refresh());
+            assertEquals(CsvTableRow.of(new String[]{"5\nx", "6"}, 3), reportPage.getRow(3));
+            assertEquals(TableCellAddress.of(4, 1), reportPage.find("8"));
+            assertEquals(4, reportPage.getLastRowNum());
+        }
+    }
+
+    @Test
+    void refreshAfterParseFailure() throws IOException {
+        Path path = Files.writeString(directory.resolve("feed.csv"), "a,b\n");
+        CsvParserSettings settings = new CsvParserSettings();
+        settings.setMaxColumns(3);
+        try (TailingCsvReportPage reportPage = new TailingCsvReportPage(path, UTF_8, settings)) {
+            append(path, "1,2\n3,4,5,6\n");
+            assertThrows(RuntimeException.class, reportPage::refresh);
+            assertEquals(0, reportPage.getLastRowNum());
+
+            Files.writeString(path, "a,b\n1,2\n3,4\n5,6\n"); // bad record is fixed, file size is not changed
+            assertEquals(3, reportPage.refresh());
+            assertEquals(CsvTableRow.of(new String[]{"1", "2"}, 1), reportPage.getRow(1));
+            assertEquals(CsvTableRow.of(new String[]{"5", "6"}, 3), reportPage.getRow(3));
+            assertEquals(3, reportPage.getLastRowNum());
+        }
+    }
+
+    @Test
+    void refreshEmptyFile() throws IOException {
+        Path path = Files.writeString(directory.resolve("feed.csv"), "");
+        try (TailingCsvReportPage reportPage = new TailingCsvReportPage(path)) {
+            assertEquals(-1, reportPage.getLastRowNum());
+
+            append(path, "a;b\n1;2\n");
+            assertEquals(2, reportPage.refresh());
+            assertEquals(CsvTableRow.of(new String[]{"1", "2"}, 1), reportPage.getRow(1));
+        }
+    }
+
+    @Test
+    void refreshTruncatedFile() throws IOException {
+        Path path = Files.writeString(directory.resolve("feed.csv"), "a,b\n1,2\n");
+        try (TailingCsvReportPage reportPage = new TailingCsvReportPage(path)) {
+            Files.writeString(path, "a,b\n");
+
+            assertThrows(IOException.class, reportPage::refresh);
+        }
+    }
+
+    @Test
+    void notSupported() throws IOException {
+        Path path = Files.writeString(directory.resolve("feed.csv"), "a,b\n");
+        CsvParserSettings settings = new CsvParserSettings();
+        settings.setHeaderExtractionEnabled(true);
+
+        assertThrows(IllegalArgumentException.class, () -> new TailingCsvReportPage(path, UTF_8, settings));
+        assertThrows(IllegalArgumentException.class,
+                () -> new TailingCsvReportPage(path, UTF_16, new CsvParserSettings()));
+        assertThrows(IllegalArgumentException.class,
+                () -> new TailingCsvReportPage(directory, UTF_8, new CsvParserSettings()));
+    }
+}